@@ -0,0 +1,61 @@
+package csci.ooad.polymorphia.bench;
+
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.characters.ActionDispatcher;
+import csci.ooad.polymorphia.characters.Character;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Type-tag switch against one megamorphic doAction() call site, acting every living character once
+// on a fresh fork of the same game. Add -prof perfasm to see which call sites got inlined.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ActionDispatchBenchmark {
+
+    @Param({"5", "20"})
+    int gridSize;
+
+    private Polymorphia template;
+    private List<Character> characters;
+
+    @Setup(Level.Trial)
+    public void buildTemplate() {
+        template = new Polymorphia(PlayTurnBenchmark.buildMaze(gridSize));
+    }
+
+    @Setup(Level.Invocation)
+    public void forkTemplate() {
+        characters = template.fork().getLivingCharacters();
+    }
+
+    @Benchmark
+    public List<Character> virtualDispatch() {
+        for (Character character : characters) {
+            if (character.isAlive()) {
+                character.doAction();
+            }
+        }
+        return characters;
+    }
+
+    @Benchmark
+    public List<Character> typeTagDispatch() {
+        for (Character character : characters) {
+            if (character.isAlive()) {
+                ActionDispatcher.act(character);
+            }
+        }
+        return characters;
+    }
+}
@@ -0,0 +1,55 @@
+package csci.ooad.polymorphia.bench;
+
+import csci.ooad.polymorphia.health.HealthKernel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One turn's movement penalty over a whole population's health array, vector lanes against one
+// character at a time. Run with -Dpolymorphia.vectorHealth=false to check the fallback choice.
+// Every operation starts from the same healthy population: without the reset the whole array is
+// dead after a handful of calls and only the skip-the-dead path gets timed. Both variants pay for
+// the same copy.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HealthKernelBenchmark {
+
+    @Param({"1000", "1000000"})
+    int characters;
+
+    private double[] template;
+    private double[] health;
+    private int[] newlyDead;
+
+    @Setup
+    public void buildTemplate() {
+        Random random = new Random(42);
+        template = new double[characters];
+        for (int i = 0; i < characters; i++) {
+            template[i] = random.nextInt(20) * 0.25;
+        }
+        health = new double[characters];
+        newlyDead = new int[characters];
+    }
+
+    @Benchmark
+    public int scalar() {
+        System.arraycopy(template, 0, health, 0, characters);
+        return HealthKernel.scalar().loseHealthForMoving(health, characters, newlyDead);
+    }
+
+    @Benchmark
+    public int vector() {
+        System.arraycopy(template, 0, health, 0, characters);
+        return HealthKernel.best().loseHealthForMoving(health, characters, newlyDead);
+    }
+}
@@ -0,0 +1,62 @@
+package csci.ooad.polymorphia.bench;
+
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Baseline for the turn loop: one turn on a populated grid, and one complete game
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlayTurnBenchmark {
+
+    @Param({"5", "20"})
+    int gridSize;
+
+    @State(Scope.Thread)
+    public static class RunningGame {
+        Polymorphia game;
+
+        // Games end quickly, so keep swapping in a fresh one between invocations
+        @Setup(Level.Invocation)
+        public void freshGameWhenOver(PlayTurnBenchmark benchmark) {
+            if (game == null || game.isOver()) {
+                game = new Polymorphia(buildMaze(benchmark.gridSize));
+            }
+        }
+    }
+
+    static Maze buildMaze(int gridSize) {
+        int rooms = gridSize * gridSize;
+        return Maze.newBuilder()
+                .createNbyMGrid(gridSize, gridSize)
+                .distributeRandomly()
+                .createAndAddAdventurers(rooms / 8 + 1, rooms / 8 + 1, rooms / 8 + 1, rooms / 4 + 1)
+                .createAndAddCreatures(rooms / 2 + 1, true)
+                .createAndAddFoodItems(rooms)
+                .build();
+    }
+
+    @Benchmark
+    public Polymorphia playTurn(RunningGame running) {
+        running.game.playTurn();
+        return running.game;
+    }
+
+    @Benchmark
+    public Polymorphia playWholeGame() {
+        Polymorphia wholeGame = new Polymorphia(buildMaze(gridSize));
+        wholeGame.play();
+        return wholeGame;
+    }
+}
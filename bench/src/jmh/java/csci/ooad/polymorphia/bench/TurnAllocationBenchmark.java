@@ -0,0 +1,66 @@
+package csci.ooad.polymorphia.bench;
+
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.characters.Character;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Allocation per turn: read gc.alloc.rate.norm (bytes/op) from the gc profiler.
+// Every invocation plays the first turn of a fresh fork of the same game, so both loops see the same work.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TurnAllocationBenchmark {
+
+    @Param({"5", "20"})
+    int gridSize;
+
+    private Polymorphia template;
+    private Polymorphia game;
+    private final Random rand = new Random();
+
+    @Setup(Level.Trial)
+    public void buildTemplate() {
+        template = new Polymorphia(PlayTurnBenchmark.buildMaze(gridSize));
+    }
+
+    @Setup(Level.Invocation)
+    public void forkTemplate() {
+        game = template.fork();
+    }
+
+    @Benchmark
+    public Polymorphia playTurn() {
+        game.playTurn();
+        return game;
+    }
+
+    // The turn loop as it was before: a filtered copy of the remaining characters after every action,
+    // and a stream over every room to decide whether the game is over
+    @Benchmark
+    public boolean previousTurnLoop() {
+        List<Character> characters = game.getLivingCharacters();
+        while (!characters.isEmpty()) {
+            int index = rand.nextInt(characters.size());
+            characters.get(index).doAction();
+            characters.remove(index);
+            characters = characters.stream()
+                    .filter(Character::isAlive)
+                    .collect(Collectors.toList());
+        }
+        return game.getMaze().getRooms().stream().noneMatch(room -> room.hasLivingAdventurers())
+                || game.getMaze().getRooms().stream().noneMatch(room -> room.hasLivingCreatures());
+    }
+}
@@ -0,0 +1,41 @@
+package csci.ooad.polymorphia;
+
+import java.util.Random;
+
+// Mirror image of the stream a java.util.Random with the same seed produces: every fraction u
+// becomes 1 - u and every roll r out of n becomes n - 1 - r. A game played on it is negatively
+// correlated with the game played on the original stream, so averaging the pair cancels noise.
+public class AntitheticRandom extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private final Random original;
+
+    public AntitheticRandom(long seed) {
+        this.original = new Random(seed);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return ~original.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return bound - 1 - original.nextInt(bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return Math.min(1.0 - original.nextDouble(), Math.nextDown(1.0));
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return !original.nextBoolean();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return -original.nextGaussian();
+    }
+}
@@ -0,0 +1,55 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.CharacterType;
+import csci.ooad.polymorphia.characters.Creature;
+
+import java.util.List;
+
+// Recognizes games whose winner is already provable. Adventurers lose health on every
+// move and fight, and only food gives it back, so they die in finite time unless they
+// manage to kill every creature. Both rules assume no food or characters get added mid-game.
+public class CertainOutcomeDetector implements ConvergenceDetector {
+    // Best case for the adventurer: a 6 against a 1, plus the mandatory half point
+    static final double MAX_DAMAGE_PER_FIGHT = 5.5;
+    static final double MIN_HEALTH_LOST_PER_FIGHT = 0.5;
+
+    @Override
+    public GameOutcome detect(Polymorphia game) {
+        List<Adventurer> adventurers = game.maze.getLivingAdventurers();
+        List<Creature> creatures = game.getAliveCreatures();
+
+        if (noAdventurerCanHurtCreatures(adventurers, creatures)) {
+            return GameOutcome.CREATURES_WIN;
+        }
+        if (creaturesOutlastAdventurers(adventurers, creatures, game.maze.getTotalFoodHealthValue())) {
+            return GameOutcome.CREATURES_WIN;
+        }
+        return null;
+    }
+
+    // Cowards and Gluttons only ever fight Demons, and plain creatures never act
+    private boolean noAdventurerCanHurtCreatures(List<Adventurer> adventurers, List<Creature> creatures) {
+        boolean demonPresent = creatures.stream().anyMatch(creature -> creature.getType() == CharacterType.DEMON);
+        boolean onlyTimidAdventurers = adventurers.stream()
+                .allMatch(adventurer -> adventurer.getType() == CharacterType.COWARD
+                        || adventurer.getType() == CharacterType.GLUTTON);
+        return !demonPresent && onlyTimidAdventurers;
+    }
+
+    // Every fight costs the adventurer at least half a point, which caps how many fights
+    // the adventurers can still take part in and therefore how much damage they can deal
+    private boolean creaturesOutlastAdventurers(List<Adventurer> adventurers, List<Creature> creatures, int foodHealth) {
+        // Food only comes in whole points, so it adds whole fights to whoever eats it
+        double maxFights = Math.floor(foodHealth / MIN_HEALTH_LOST_PER_FIGHT);
+        for (Adventurer adventurer : adventurers) {
+            maxFights += Math.ceil(adventurer.getHealth() / MIN_HEALTH_LOST_PER_FIGHT);
+        }
+
+        double creatureHealth = 0;
+        for (Creature creature : creatures) {
+            creatureHealth += creature.getHealth();
+        }
+        return maxFights * MAX_DAMAGE_PER_FIGHT < creatureHealth;
+    }
+}
@@ -0,0 +1,27 @@
+package csci.ooad.polymorphia;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+// Lets Polymorphia.play() stop as soon as the result of a game can no longer change
+@FunctionalInterface
+public interface ConvergenceDetector {
+
+    /*
+     * @return the outcome the game is certain (or, for heuristic detectors, judged) to reach,
+     *         or null while the game is still open
+     */
+    GameOutcome detect(Polymorphia game);
+
+    static ConvergenceDetector never() {
+        return game -> null;
+    }
+
+    static ConvergenceDetector anyOf(ConvergenceDetector... detectors) {
+        return game -> Arrays.stream(detectors)
+                .map(detector -> detector.detect(game))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+}
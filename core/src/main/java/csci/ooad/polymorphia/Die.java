@@ -0,0 +1,66 @@
+package csci.ooad.polymorphia;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public class Die {
+    // Created eagerly so it is safe to share; the rolls themselves are per thread
+    private static final Die singleton = new Die();
+    // Set while a thread plays from its own stream, e.g. a seeded one that replays a game exactly
+    private static final ThreadLocal<Random> streams = new ThreadLocal<>();
+
+    public Die() {
+    }
+
+    private int roll(int sides) {
+        return randomInt(sides) + 1;
+    }
+
+    private int randomInt(int limit) {
+        return current().nextInt(limit);
+    }
+
+    // Threads without a stream of their own roll on their ThreadLocalRandom, so games played in
+    // parallel never contend on one shared Random
+    private Random current() {
+        Random stream = streams.get();
+        return stream != null ? stream : ThreadLocalRandom.current();
+    }
+
+    public static Die getInstance() {
+        return singleton;
+    }
+
+    public static int rollSixSided() {
+        return rollNSided(6);
+    }
+
+    public static int rollNSided(int sides) {
+        return getInstance().roll(sides);
+    }
+
+    public static int randomLessThan(int limit) {
+        return getInstance().randomInt(limit);
+    }
+
+    // Uniform in [0, 1)
+    public static double randomFraction() {
+        return getInstance().current().nextDouble();
+    }
+
+    // Every roll this thread makes while the action runs comes from the given stream
+    public static <T> T withStream(Random stream, Supplier<T> action) {
+        Random previous = streams.get();
+        streams.set(stream);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                streams.set(previous);
+            } else {
+                streams.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.ActionDispatcher;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.Demon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Plays the same game as Polymorphia.play(), but as a queue of action events in game time
+// instead of a pass over the characters every turn. Turn n is the time interval [n - 1, n), and
+// every scheduled character acts once in it at a uniformly random time, which orders the actions
+// of a turn exactly like Polymorphia's uniform shuffle. Only adventurers and Demons next to one
+// have events; a parked Demon gets one when an adventurer walks in, so quiet parts of the maze
+// cost nothing at all.
+public class DiscreteEventGame {
+    private static final Logger logger = LoggerFactory.getLogger(DiscreteEventGame.class);
+
+    private final Maze maze;
+    private final PriorityQueue<ActionEvent> events = new PriorityQueue<>(Comparator.comparingDouble(ActionEvent::time));
+    private final Set<Character> scheduled = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Turn in which each living character last acted, so nobody acts twice in one turn
+    private final Map<Character, Integer> lastTurnActed = new IdentityHashMap<>();
+    private final List<Demon> wokenDemons = new ArrayList<>();
+    private int turnCount = 0;
+    private double now = 0.0;
+    private long eventsProcessed = 0;
+
+    public DiscreteEventGame(Maze maze) {
+        this.maze = maze;
+        maze.getOccupancy();
+        maze.addRoomObserver(new RoomObserver() {
+            @Override
+            public void characterEntered(Room room, Character character) {
+                wakeParkedDemons(room, character);
+            }
+        });
+    }
+
+    public void play() {
+        while (!isOver()) {
+            playTurn();
+        }
+        logger.info("The game ended after {} turns and {} events: {}", turnCount, eventsProcessed, getOutcome());
+    }
+
+    public void playTurn() {
+        if (turnCount == 0) {
+            for (Character character : maze.getActiveCharacters()) {
+                scheduleInTurn(character, 1);
+            }
+        }
+        turnCount++;
+        playUntil(turnCount);
+    }
+
+    private void playUntil(double endOfTurn) {
+        while (!events.isEmpty() && events.peek().time() < endOfTurn) {
+            ActionEvent event = events.poll();
+            Character character = event.character();
+            scheduled.remove(character);
+            if (!character.isAlive()) {
+                lastTurnActed.remove(character);
+                continue;
+            }
+            now = event.time();
+            lastTurnActed.put(character, turnCount);
+            ActionDispatcher.act(character);
+            eventsProcessed++;
+            // A Demon left alone parks until the next adventurer walks in
+            if (character.isAlive() && (character.isAdventurer() || character.getCurrentLocation().hasLivingAdventurers())) {
+                scheduleInTurn(character, turnCount + 1);
+            }
+        }
+        now = endOfTurn;
+    }
+
+    private void scheduleInTurn(Character character, int turn) {
+        if (scheduled.add(character)) {
+            events.add(new ActionEvent(turn - 1 + Die.randomFraction(), character));
+        }
+    }
+
+    // The Demon's slot in the current turn is uniform like everybody else's. If that slot has
+    // already passed, or the Demon already acted this turn before it parked, it acts in the next one.
+    private void wakeParkedDemons(Room room, Character entering) {
+        if (turnCount == 0 || !entering.isAdventurer() || !room.hasLivingDemons()) {
+            return;
+        }
+        wokenDemons.clear();
+        room.collectLivingDemons(wokenDemons);
+        for (Demon demon : wokenDemons) {
+            if (!scheduled.contains(demon)) {
+                double slot = turnCount - 1 + Die.randomFraction();
+                if (slot > now && lastTurnActed.getOrDefault(demon, 0) != turnCount) {
+                    scheduled.add(demon);
+                    events.add(new ActionEvent(slot, demon));
+                } else {
+                    scheduleInTurn(demon, turnCount + 1);
+                }
+            }
+        }
+    }
+
+    public boolean isOver() {
+        return !maze.hasLivingAdventurers() || !maze.hasLivingCreatures();
+    }
+
+    public GameOutcome getOutcome() {
+        if (!isOver()) {
+            return null;
+        }
+        if (maze.hasLivingAdventurers()) {
+            return GameOutcome.ADVENTURERS_WIN;
+        } else if (maze.hasLivingCreatures()) {
+            return GameOutcome.CREATURES_WIN;
+        }
+        return GameOutcome.NO_WINNER;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public long getEventsProcessed() {
+        return eventsProcessed;
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    private record ActionEvent(double time, Character character) {
+    }
+}
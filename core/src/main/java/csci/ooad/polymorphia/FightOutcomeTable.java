@@ -0,0 +1,79 @@
+package csci.ooad.polymorphia;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Every pair of rolls in a fight, precomputed. An outcome is a single number in
+// [0, sides * sides) that encodes both rolls, so one random draw replaces two dice.
+public final class FightOutcomeTable {
+    private static final Map<Integer, FightOutcomeTable> TABLES = new ConcurrentHashMap<>();
+    private static final FightOutcomeTable SIX_SIDED = forSides(6);
+
+    private final int sides;
+    private final int[] damageByOutcome;        // attacker roll minus defender roll
+    private final double[] probabilityByDamage; // indexed by damage + sides - 1
+
+    private FightOutcomeTable(int sides) {
+        this.sides = sides;
+        this.damageByOutcome = new int[sides * sides];
+        this.probabilityByDamage = new double[2 * sides - 1];
+        for (int outcome = 0; outcome < damageByOutcome.length; outcome++) {
+            int damage = attackerRoll(outcome) - defenderRoll(outcome);
+            damageByOutcome[outcome] = damage;
+            probabilityByDamage[damage + sides - 1] += 1.0 / damageByOutcome.length;
+        }
+    }
+
+    public static FightOutcomeTable sixSided() {
+        return SIX_SIDED;
+    }
+
+    public static FightOutcomeTable forSides(int sides) {
+        if (sides <= 0 || sides > 46340) {
+            throw new IllegalArgumentException("sides must be between 1 and 46340");
+        }
+        return TABLES.computeIfAbsent(sides, FightOutcomeTable::new);
+    }
+
+    public int getSides() {
+        return sides;
+    }
+
+    public int outcomeCount() {
+        return damageByOutcome.length;
+    }
+
+    public int sampleOutcome() {
+        return Die.randomLessThan(damageByOutcome.length);
+    }
+
+    public void sampleOutcomes(int[] outcomes, int count) {
+        for (int i = 0; i < count; i++) {
+            outcomes[i] = sampleOutcome();
+        }
+    }
+
+    public int attackerRoll(int outcome) {
+        return outcome / sides + 1;
+    }
+
+    public int defenderRoll(int outcome) {
+        return outcome % sides + 1;
+    }
+
+    // Positive when the attacker won the roll, negative when the defender did
+    public int damage(int outcome) {
+        return damageByOutcome[outcome];
+    }
+
+    public double probabilityOfDamage(int damage) {
+        if (damage <= -sides || damage >= sides) {
+            return 0.0;
+        }
+        return probabilityByDamage[damage + sides - 1];
+    }
+
+    public int maxDamage() {
+        return sides - 1;
+    }
+}
@@ -21,6 +21,10 @@ public class Food {
         return name + "(" + healthValue +")";
     }
 
+    public String getName() {
+        return name;
+    }
+
     public int getHealthValue() {
         return healthValue;
     }
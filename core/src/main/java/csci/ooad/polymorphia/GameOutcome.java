@@ -0,0 +1,8 @@
+package csci.ooad.polymorphia;
+
+public enum GameOutcome {
+    ADVENTURERS_WIN,
+    CREATURES_WIN,
+    NO_WINNER,      // everyone died
+    STALEMATE       // nothing can change anymore, e.g. no one is able to fight
+}
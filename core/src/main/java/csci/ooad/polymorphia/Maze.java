@@ -0,0 +1,639 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.factories.FoodFactory;
+import csci.ooad.polymorphia.factories.CharacterFactory;
+import csci.ooad.polymorphia.topology.TopologySource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+
+
+public class Maze  {
+    private static final Logger logger = LoggerFactory.getLogger(Maze.class);
+
+    private final List<Room> rooms;
+    private final boolean distributeRandomly; // 1 = rand, 0 = simultaneous distribution
+
+
+    // Index-ordered rooms for the shared topology; for hand-built rooms both are built on first use
+    private MazeTopology topology;
+    private Room[] roomsByIndex;
+    // Shared by a maze and all of its forks; mazes built separately may still share a topology
+    private final Object lineage;
+    private final List<RoomObserver> roomObservers = new ArrayList<>();
+    private RoomOccupancy occupancy;
+    private ZobristHash zobristHash;
+    private Map<Room, Integer> handBuiltRoomIndexes;
+
+    private Maze(MazeBuilder builder) {
+        this.lineage = new Object();
+        this.rooms = builder.rooms;
+        this.distributeRandomly = builder.distributeRandomly;
+        this.topology = builder.topology;
+        this.roomsByIndex = builder.roomsByIndex;
+    }
+
+    // Forks share the topology, the room names and the (immutable) food with the original.
+    // Every forked room reads its original's characters and food until either side changes
+    // them, so a fork copies only the characters its game actually touches.
+    private Maze(Maze original) {
+        original.indexRooms();
+        this.lineage = original.lineage;
+        this.distributeRandomly = original.distributeRandomly;
+        this.topology = original.topology;
+        this.roomsByIndex = new Room[topology.roomCount()];
+        for (int i = 0; i < roomsByIndex.length; i++) {
+            roomsByIndex[i] = new Room(original.roomsByIndex[i], topology.neighborsOf(i, roomsByIndex));
+        }
+        for (int i = 0; i < roomsByIndex.length; i++) {
+            if (original.roomsByIndex[i].hasExtraDoors()) {
+                roomsByIndex[i].useOwnNeighbors(forkNeighbors(original, original.roomsByIndex[i]));
+            }
+        }
+        this.rooms = new ArrayList<>(Arrays.asList(roomsByIndex).subList(0, original.rooms.size()));
+    }
+
+    // Doors added after the maze was built lead to the fork's copies of the same rooms
+    private List<Room> forkNeighbors(Maze original, Room room) {
+        List<Room> neighbors = new ArrayList<>(room.getNeighbors().size());
+        for (Room neighbor : room.getNeighbors()) {
+            int index = original.indexOfIndexedRoom(neighbor);
+            if (index < 0) {
+                throw new IllegalStateException(room.getName() + " has a door to " + neighbor.getName()
+                        + ", which is not part of the maze being forked");
+            }
+            neighbors.add(roomsByIndex[index]);
+        }
+        return neighbors;
+    }
+
+    // The shape the maze was built with; doors added to its rooms later are not part of it
+    public MazeTopology getTopology() {
+        indexRooms();
+        return topology;
+    }
+
+    public Maze fork() {
+        return new Maze(this);
+    }
+
+    private void indexRooms() {
+        if (topology == null) {
+            List<Room> indexedRooms = new ArrayList<>();
+            topology = MazeTopology.of(rooms, indexedRooms);
+            roomsByIndex = indexedRooms.toArray(new Room[0]);
+        }
+    }
+
+    // The copy of one of the original maze's characters in this fork. Positions are matched
+    // room by room, so ask before either maze plays on.
+    public Character getForkedCounterpart(Maze original, Character character) {
+        if (lineage != original.lineage || topology != original.topology) {
+            throw new IllegalArgumentException("this maze is not a fork of the given maze");
+        }
+        return getCharacter(original.slotOf(character));
+    }
+
+    // Where a character is: its room's topology index and its place among the room's characters.
+    // The slot finds the character's copy in any fork taken before the maze plays on, so callers
+    // that fork over and over look it up once.
+    public Slot slotOf(Character character) {
+        Room location = character.getCurrentLocation();
+        int index = location == null ? -1 : indexOfIndexedRoom(location);
+        int position = index < 0 ? -1 : location.indexOf(character);
+        if (position < 0) {
+            throw new IllegalArgumentException(character.getName() + " is not in this maze");
+        }
+        return new Slot(index, position);
+    }
+
+    public Character getCharacter(Slot slot) {
+        indexRooms();
+        return roomsByIndex[slot.room()].getCharacter(slot.position());
+    }
+
+    public record Slot(int room, int position) {
+    }
+
+    // Position of the room in the topology's room order, or -1 if it is not one of this maze's rooms
+    int indexOfIndexedRoom(Room room) {
+        indexRooms();
+        int id = room.getId();
+        if (id >= 0 && id < roomsByIndex.length && roomsByIndex[id] == room) {
+            return id;
+        }
+        for (int i = 0; i < roomsByIndex.length; i++) {
+            if (roomsByIndex[i] == room) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static MazeBuilder newBuilder() {
+        return new MazeBuilder();
+    }
+
+
+    public static class MazeBuilder {
+        static final int EDGE_CHUNK_SIZE = 8192;
+
+        private List<Room> rooms;
+        private MazeTopology topology;
+        private Room[] roomsByIndex;
+        private boolean distributeRandomly;
+        private final FoodFactory foodFactory = new FoodFactory();
+        private final CharacterFactory characterFactory = new CharacterFactory();
+
+
+
+        public MazeBuilder createNbyMGrid(int n, int m) {
+            return useTopology(MazeTopology.grid(n, m));
+        }
+
+
+        public MazeBuilder createNFullyConnectedRooms(int n){
+            return useTopology(MazeTopology.fullyConnected(n));
+        }
+
+        // Streams the edges in fixed-size chunks, so no edge list is ever built in memory
+        public MazeBuilder createFromTopology(TopologySource source) {
+            return useTopology(MazeTopology.from(source));
+        }
+
+        // Only the rooms are created per maze; the shape itself is shared with every other
+        // maze built from the same topology
+        public MazeBuilder useTopology(MazeTopology topology) {
+            Room[] newRooms = new Room[topology.roomCount()];
+            for (int i = 0; i < newRooms.length; i++) {
+                newRooms[i] = new Room(i, topology, topology.neighborsOf(i, newRooms));
+            }
+
+            // Add all the rooms to the Maze
+            this.rooms = new ArrayList<>(Arrays.asList(newRooms));
+            this.topology = topology;
+            this.roomsByIndex = newRooms;
+
+            return this;
+        }
+
+        public MazeBuilder distributeRandomly(){
+            this.distributeRandomly = true;
+            return this;
+        }
+
+        public MazeBuilder distributeSequentially() {
+            this.distributeRandomly = false;
+            return this;
+        }
+
+        public MazeBuilder addRoom(Room roomToAdd) {
+            if (this.topology != null) {
+                throw new IllegalStateException("rooms of a shared topology cannot be rewired");
+            }
+            if (this.rooms == null) this.rooms = new ArrayList<>();
+            // If there's already a room in the list, set the last room as its neighbor
+            boolean noRooms = this.rooms.isEmpty();
+            if(noRooms){
+                this.rooms.add(roomToAdd);
+            }
+            else {
+                Room lastRoom = this.rooms.getLast();
+                roomToAdd.addNeighbor(lastRoom);
+                lastRoom.addNeighbor(roomToAdd);
+            }
+
+            return this;
+        }
+
+
+        public MazeBuilder placeObjectIntoRoom(Object object, String roomName){
+            Room room = findRoom(roomName);
+            if (room == null) {
+                throw new IllegalArgumentException("Maze must contain room to place object");
+            }
+            return placeObjectIntoRoom(object, room);
+        }
+
+        private Room findRoom(String roomName) {
+            if (topology != null) {
+                int index = topology.indexOf(roomName);
+                return index < 0 ? null : roomsByIndex[index];
+            }
+            return rooms == null ? null : findByName(rooms, roomName);
+        }
+
+        private boolean containsRoom(Room room) {
+            if (topology != null) {
+                return room.getId() >= 0 && room.getId() < roomsByIndex.length && roomsByIndex[room.getId()] == room;
+            }
+            return this.rooms.contains(room);
+        }
+
+        public MazeBuilder placeObjectIntoRoom(Object object, Room room){
+            if(containsRoom(room)){
+                if(object instanceof Character){
+                    room.add((Character) object);
+                    logger.info("placeObjectIntoRoom: Character placed into room");
+                } else if (object instanceof Food){
+                    room.add((Food) object);
+                    logger.info("placeObjectIntoRoom: Food placed into room");
+                } else {
+                    throw new IllegalArgumentException("object must be a Character or Food");
+                }
+            }else{
+                throw new IllegalArgumentException("Maze must contain room to place object");
+            }
+            return this;
+        }
+
+        private void distributeObjectsRandomly(List<Object> objects){
+
+            // Get random index
+            int numRooms = this.rooms.size();
+
+            // For each object, generate a rand index and add obj to it
+            for(Object object : objects){
+
+                int randomIndex = Die.randomLessThan(numRooms);
+
+                if (object instanceof Character) {
+                    this.rooms.get(randomIndex).add((Character)object);
+                } else if (object instanceof Food) {
+                    this.rooms.get(randomIndex).add((Food)object);
+                } else {
+                    throw new IllegalArgumentException("object must be a Character or Food");
+                }
+            }
+
+        }
+
+        private void distributeObjectsSequentially(List<Object> objects){
+
+            // Room index
+            int roomIndex = 0;
+
+            // For each object, add to room and add one to room index
+            for(Object object : objects){
+
+                if (object instanceof Character) {
+                    this.rooms.get(roomIndex).add((Character)object);
+                } else if (object instanceof Food) {
+                    this.rooms.get(roomIndex).add((Food)object);
+                } else {
+                    throw new IllegalArgumentException("object must be a Character or Food");
+                }
+
+                roomIndex = (roomIndex + 1) % this.rooms.size();
+
+            }
+        }
+
+        public MazeBuilder createAndAddFoodItems(int numFoods){
+
+            List<Food> foodsToAdd = foodFactory.createListOfFood(numFoods);
+            List<Object> foodsAsObjects = new ArrayList<>(foodsToAdd);
+
+            if(distributeRandomly){
+
+                // Randomly distribute items
+                distributeObjectsRandomly(foodsAsObjects);
+
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(foodsAsObjects);
+            }
+
+            return this;
+        }
+
+        /*
+        * @param numAdventurers is the total num adventurers to be distributed to Maze rooms (type rand. determined by CharacterFactory)
+        * */
+        public MazeBuilder createAndAddAdventurers(int numAdventurers) {
+            // Ensure the characterFactory is not null
+            if (characterFactory == null) {
+                throw new IllegalStateException("CharacterFactory must be initialized before creating adventurers.");
+            }
+
+            // Call the non-static method using the characterFactory instance
+            ArrayList<Character> adventurersToAdd = characterFactory.createAdventurers(numAdventurers);
+            List<Object> adventurersAsObjects = new ArrayList<>(adventurersToAdd);
+
+            if (distributeRandomly) {
+                // Randomly distribute items
+                distributeObjectsRandomly(adventurersAsObjects);
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(adventurersAsObjects);
+            }
+
+            return this;
+        }
+
+        /*
+         * @param adventure is an instance of an adventurer that is then passed into a list.
+         * */
+        public MazeBuilder createAndAddAdventurers(Adventurer adventurer) {
+            // Ensure the characterFactory is not null
+            if (characterFactory == null) {
+                throw new IllegalStateException("CharacterFactory must be initialized before creating adventurers.");
+            }
+
+            // Call the non-static method using the characterFactory instance
+            List<Object> adventurersAsObjects = new ArrayList<>();
+            adventurersAsObjects.add(adventurer);
+
+            if (distributeRandomly) {
+                // Randomly distribute items
+                distributeObjectsRandomly(adventurersAsObjects);
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(adventurersAsObjects);
+            }
+
+            return this;
+        }
+
+        public MazeBuilder createAndAddAdventurers(int numKnights, int numCowards, int numGluttons, int numRegular) {
+            // Ensure the characterFactory is not null
+            if (characterFactory == null) {
+                throw new IllegalStateException("CharacterFactory must be initialized before creating adventurers.");
+            }
+
+            // Call the non-static method using the characterFactory instance
+            ArrayList<Character> adventurersToAdd = characterFactory.createAdventurers(numKnights, numCowards, numGluttons, numRegular);
+            List<Object> adventurersAsObjects = new ArrayList<>(adventurersToAdd);
+
+            if (distributeRandomly) {
+                // Randomly distribute items
+                distributeObjectsRandomly(adventurersAsObjects);
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(adventurersAsObjects);
+            }
+
+            return this;
+        }
+
+        public MazeBuilder createAndAddCreatures(int numCreatures, boolean isDemon){
+
+            ArrayList<Character> creaturesToAdd = characterFactory.createCreatures(numCreatures,isDemon);
+            List<Object> creaturesAsObjects = new ArrayList<>(creaturesToAdd);
+
+            if(distributeRandomly){
+
+                // Randomly distribute items
+                distributeObjectsRandomly(creaturesAsObjects);
+
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(creaturesAsObjects);
+            }
+
+            return this;
+        }
+
+        public MazeBuilder createAndAddCreatures(Creature creature, boolean includeDemon){
+
+            ArrayList<Object> creaturesToAdd = new ArrayList<>();
+            creaturesToAdd.add(creature);
+            if (includeDemon) creaturesToAdd.add(new Demon("Demon"));
+
+            if(distributeRandomly){
+                // Randomly distribute items
+                distributeObjectsRandomly(creaturesToAdd);
+            } else {
+                // Sequentially distribute items
+                distributeObjectsSequentially(creaturesToAdd);
+            }
+
+            return this;
+        }
+
+        public Maze build(){
+            return new Maze(this);
+        }
+
+    }
+
+
+
+
+    public int size() {
+        return rooms.size();
+    }
+
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    public StringBuilder appendTo(StringBuilder representation) {
+        for (int i = 0; i < rooms.size(); i++) {
+            if (i > 0) {
+                representation.append("\n\n");
+            }
+            rooms.get(i).appendTo(representation);
+        }
+        return representation;
+    }
+
+    // Generated names ("Room 12") are resolved arithmetically, so no name is ever allocated to find a room
+    public Room getRoom(String name) {
+        if (topology != null) {
+            int index = topology.indexOf(name);
+            return index < 0 ? null : roomsByIndex[index];
+        }
+        return findByName(rooms, name);
+    }
+
+    private static Room findByName(List<Room> rooms, String name) {
+        for (Room room : rooms) {
+            if (room.getName().equals(name)) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasLivingCreatures() {
+        if (occupancy != null) {
+            return occupancy.hasRoomsWithCreatures();
+        }
+        for (Room room : rooms) {
+            if (room.hasLivingCreatures()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasLivingAdventurers() {
+        if (occupancy != null) {
+            return occupancy.hasRoomsWithAdventurers();
+        }
+        for (Room room : rooms) {
+            if (room.hasLivingAdventurers()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Room getRandomRoom() {
+        return rooms.get(Die.randomLessThan(rooms.size()));
+    }
+
+    public List<Adventurer> getLivingAdventurers() {
+        List<Adventurer> adventurers = new ArrayList<>();
+        for (Room room : rooms) {
+            adventurers.addAll(room.getLivingAdventurers());
+        }
+        return adventurers;
+    }
+
+    public List<Creature> getLivingCreatures() {
+        List<Creature> creatures = new ArrayList<>();
+        for (Room room : rooms) {
+            creatures.addAll(room.getLivingCreatures());
+        }
+        return creatures;
+    }
+
+    public List<Character> getLivingCharacters() {
+        List<Character> characters = new ArrayList<>();
+        for (Room room : rooms) {
+            characters.addAll(room.getLivingCharacters());
+        }
+        return characters;
+    }
+
+    public int getTotalFoodHealthValue() {
+        int total = 0;
+        for (Room room : rooms) {
+            total += room.getTotalFoodHealthValue();
+        }
+        return total;
+    }
+
+    public void addToRandomRoom(Character character) {
+        getRandomRoom().add(character);
+    }
+
+    public void addToRandomRoom(Food foodItem) {
+        getRandomRoom().add(foodItem);
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    // Every room of this maze reports to the observer from now on; forks do not inherit it
+    public void addRoomObserver(RoomObserver observer) {
+        roomObservers.add(observer);
+        RoomObserver roomObserver = roomObservers.size() == 1 ? observer : new RoomObservers(roomObservers);
+        for (Room room : roomsByIndex != null ? Arrays.asList(roomsByIndex) : rooms) {
+            room.setObserver(roomObserver);
+        }
+    }
+
+    // Built and kept current from the first call on
+    public RoomOccupancy getOccupancy() {
+        if (occupancy == null) {
+            occupancy = new RoomOccupancy(this);
+            addRoomObserver(occupancy);
+        }
+        return occupancy;
+    }
+
+    // Fingerprint of the current state, kept up to date from the first call on
+    public long getStateHash() {
+        if (zobristHash == null) {
+            zobristHash = new ZobristHash(this);
+            addRoomObserver(zobristHash);
+        }
+        return zobristHash.get();
+    }
+
+    // Position of the room in getRooms(), or -1 if it is not one of them
+    int indexOfRoom(Room room) {
+        int id = room.getId();
+        if (id >= 0 && id < rooms.size() && rooms.get(id) == room) {
+            return id;
+        }
+        if (handBuiltRoomIndexes == null) {
+            handBuiltRoomIndexes = new IdentityHashMap<>();
+            for (int i = 0; i < rooms.size(); i++) {
+                handBuiltRoomIndexes.put(rooms.get(i), i);
+            }
+        }
+        return handBuiltRoomIndexes.getOrDefault(room, -1);
+    }
+
+    private static class RoomObservers implements RoomObserver {
+        private final List<RoomObserver> observers;
+
+        RoomObservers(List<RoomObserver> observers) {
+            this.observers = observers;
+        }
+
+        @Override
+        public void characterEntered(Room room, Character character) {
+            for (RoomObserver observer : observers) {
+                observer.characterEntered(room, character);
+            }
+        }
+
+        @Override
+        public void characterLeft(Room room, Character character) {
+            for (RoomObserver observer : observers) {
+                observer.characterLeft(room, character);
+            }
+        }
+
+        @Override
+        public void characterDied(Room room, Character character) {
+            for (RoomObserver observer : observers) {
+                observer.characterDied(room, character);
+            }
+        }
+
+        @Override
+        public void healthChanged(Room room, Character character, double previousHealth) {
+            for (RoomObserver observer : observers) {
+                observer.healthChanged(room, character, previousHealth);
+            }
+        }
+
+        @Override
+        public void foodAdded(Room room, Food food) {
+            for (RoomObserver observer : observers) {
+                observer.foodAdded(room, food);
+            }
+        }
+
+        @Override
+        public void foodEaten(Room room, Food food) {
+            for (RoomObserver observer : observers) {
+                observer.foodEaten(room, food);
+            }
+        }
+    }
+
+    // Only rooms with living adventurers can hold active characters, and the occupancy bitsets
+    // already know which rooms those are
+    public List<Character> getActiveCharacters() {
+        RoomOccupancy occupancy = getOccupancy();
+        List<Character> characters = new ArrayList<>();
+        for (int i = occupancy.nextRoomWithAdventurers(0); i >= 0; i = occupancy.nextRoomWithAdventurers(i + 1)) {
+            rooms.get(i).collectActiveCharacters(characters);
+        }
+        return characters;
+    }
+}
@@ -0,0 +1,232 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.topology.EdgeCursor;
+import csci.ooad.polymorphia.topology.TopologySource;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+// Read-only shape of a maze: which room index connects to which. Stored as one flat
+// adjacency array (offsets into targets), so any number of mazes can share it.
+public final class MazeTopology {
+    // Longest array the JVM hands out
+    private static final long MAX_NEIGHBOR_ENTRIES = Integer.MAX_VALUE - 8;
+
+    private final int[] offsets;
+    private final int[] targets;
+    // Null when every room is simply "Room <index + 1>"
+    private final String[] names;
+    // Built on the first lookup by name, and only for topologies with hand-picked names
+    private volatile Map<String, Integer> indexByName;
+
+    MazeTopology(int[] offsets, int[] targets, String[] names) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.names = names;
+    }
+
+    // Every call builds a new grid; callers that build many mazes of one size keep the topology
+    // and hand it to MazeBuilder.useTopology()
+    public static MazeTopology grid(int n, int m) {
+        if (n <= 0 || m <= 0) {
+            throw new IllegalArgumentException("n and m must be positive");
+        }
+        int[] offsets = new int[n * m + 1];
+        int[] targets = new int[2 * (n * (m - 1) + m * (n - 1))];
+        int next = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < m; j++) {
+                // Same neighbor order as before: above, below, left, right
+                if (i > 0) targets[next++] = (i - 1) * m + j;
+                if (i < n - 1) targets[next++] = (i + 1) * m + j;
+                if (j > 0) targets[next++] = i * m + j - 1;
+                if (j < m - 1) targets[next++] = i * m + j + 1;
+                offsets[i * m + j + 1] = next;
+            }
+        }
+        return new MazeTopology(offsets, targets, null);
+    }
+
+    public static MazeTopology fullyConnected(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be greater than 0");
+        }
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[n * (n - 1)];
+        int next = 0;
+        for (int room = 0; room < n; room++) {
+            for (int other = 0; other < n; other++) {
+                if (other != room) {
+                    targets[next++] = other;
+                }
+            }
+            offsets[room + 1] = next;
+        }
+        return new MazeTopology(offsets, targets, null);
+    }
+
+    // Two passes over the edge stream: the first counts degrees, the second fills the
+    // adjacency array in place, so no edge list is ever held besides the result
+    public static MazeTopology from(TopologySource source) {
+        int numRooms = source.roomCount();
+        if (numRooms <= 0) {
+            throw new IllegalArgumentException("topology must have at least one room");
+        }
+
+        long[] chunk = new long[Maze.MazeBuilder.EDGE_CHUNK_SIZE];
+        int[] offsets = new int[numRooms + 1];
+        // Every edge takes two entries in targets, which is one int-indexed array
+        long edgeCount = 0;
+        try (EdgeCursor edges = source.openEdges()) {
+            int count;
+            while ((count = edges.nextChunk(chunk)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    int from = TopologySource.from(chunk[i]);
+                    int to = TopologySource.to(chunk[i]);
+                    if (from < 0 || from >= numRooms || to < 0 || to >= numRooms || from == to) {
+                        throw new IllegalArgumentException("invalid edge " + from + " -> " + to);
+                    }
+                    if (2 * ++edgeCount > MAX_NEIGHBOR_ENTRIES) {
+                        throw new IllegalArgumentException("more than " + MAX_NEIGHBOR_ENTRIES / 2
+                                + " edges do not fit in one topology");
+                    }
+                    offsets[from + 1]++;
+                    offsets[to + 1]++;
+                }
+            }
+        }
+        for (int room = 0; room < numRooms; room++) {
+            offsets[room + 1] += offsets[room];
+        }
+
+        int[] targets = new int[offsets[numRooms]];
+        int[] filled = new int[numRooms];
+        try (EdgeCursor edges = source.openEdges()) {
+            int count;
+            while ((count = edges.nextChunk(chunk)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    int from = TopologySource.from(chunk[i]);
+                    int to = TopologySource.to(chunk[i]);
+                    targets[offsets[from] + filled[from]++] = to;
+                    targets[offsets[to] + filled[to]++] = from;
+                }
+            }
+        }
+        return new MazeTopology(offsets, targets, null);
+    }
+
+    // Freezes a hand-built set of rooms so other mazes can be built with the same shape
+    public static MazeTopology of(List<Room> rooms) {
+        return of(rooms, new ArrayList<>());
+    }
+
+    // Indexes the given rooms first and then, after them, any room only reachable through
+    // neighbor links. Returns the rooms in index order.
+    static MazeTopology of(List<Room> rooms, List<Room> indexedRooms) {
+        Map<Room, Integer> indexes = new IdentityHashMap<>();
+        for (Room room : rooms) {
+            if (indexes.putIfAbsent(room, indexedRooms.size()) == null) {
+                indexedRooms.add(room);
+            }
+        }
+        for (int i = 0; i < indexedRooms.size(); i++) {
+            for (Room neighbor : indexedRooms.get(i).getNeighbors()) {
+                if (indexes.putIfAbsent(neighbor, indexedRooms.size()) == null) {
+                    indexedRooms.add(neighbor);
+                }
+            }
+        }
+
+        int[] offsets = new int[indexedRooms.size() + 1];
+        String[] names = new String[indexedRooms.size()];
+        List<Integer> targets = new ArrayList<>();
+        for (int i = 0; i < indexedRooms.size(); i++) {
+            names[i] = indexedRooms.get(i).getName();
+            for (Room neighbor : indexedRooms.get(i).getNeighbors()) {
+                targets.add(indexes.get(neighbor));
+            }
+            offsets[i + 1] = targets.size();
+        }
+        return new MazeTopology(offsets, targets.stream().mapToInt(Integer::intValue).toArray(), names);
+    }
+
+    public int roomCount() {
+        return offsets.length - 1;
+    }
+
+    public int degree(int room) {
+        return offsets[room + 1] - offsets[room];
+    }
+
+    public int neighbor(int room, int position) {
+        return targets[offsets[room] + position];
+    }
+
+    public String roomName(int room) {
+        return names == null ? "Room " + (room + 1) : names[room];
+    }
+
+    // Index of the room with the given name, or -1 if there is none
+    public int indexOf(String name) {
+        if (names == null) {
+            return indexOfGeneratedName(name);
+        }
+        Map<String, Integer> index = indexByName;
+        if (index == null) {
+            index = new HashMap<>();
+            for (int room = names.length - 1; room >= 0; room--) {
+                index.put(names[room], room);
+            }
+            indexByName = index;
+        }
+        return index.getOrDefault(name, -1);
+    }
+
+    private int indexOfGeneratedName(String name) {
+        if (name == null || !name.startsWith("Room ") || name.length() == 5 || name.charAt(5) == '0') {
+            return -1;
+        }
+        int number = 0;
+        for (int i = 5; i < name.length(); i++) {
+            char digit = name.charAt(i);
+            if (digit < '0' || digit > '9' || number > roomCount()) {
+                return -1;
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number >= 1 && number <= roomCount() ? number - 1 : -1;
+    }
+
+    // A room's neighbors as seen from one particular maze's rooms
+    List<Room> neighborsOf(int room, Room[] roomsByIndex) {
+        return new NeighborView(room, roomsByIndex);
+    }
+
+    private class NeighborView extends AbstractList<Room> implements RandomAccess {
+        private final int room;
+        private final Room[] roomsByIndex;
+
+        NeighborView(int room, Room[] roomsByIndex) {
+            this.room = room;
+            this.roomsByIndex = roomsByIndex;
+        }
+
+        @Override
+        public Room get(int position) {
+            if (position < 0 || position >= size()) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return roomsByIndex[neighbor(room, position)];
+        }
+
+        @Override
+        public int size() {
+            return degree(room);
+        }
+    }
+}
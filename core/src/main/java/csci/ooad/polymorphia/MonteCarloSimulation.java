@@ -0,0 +1,87 @@
+package csci.ooad.polymorphia;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Plays the same kind of game over and over and stops as soon as one outcome is
+// the majority winner with the requested confidence
+public class MonteCarloSimulation {
+    private static final Logger logger = LoggerFactory.getLogger(MonteCarloSimulation.class);
+
+    private final Supplier<Maze> mazeSupplier;
+    private Supplier<ConvergenceDetector> detectorSupplier = ConvergenceDetector::never;
+    private double confidence = 0.95;
+    private int minGames = 10;
+    private int maxGames = 1000;
+
+    public MonteCarloSimulation(Supplier<Maze> mazeSupplier) {
+        this.mazeSupplier = mazeSupplier;
+    }
+
+    // Detectors can keep per-game state, so every game gets a fresh one
+    public MonteCarloSimulation withConvergenceDetector(Supplier<ConvergenceDetector> detectorSupplier) {
+        this.detectorSupplier = detectorSupplier;
+        return this;
+    }
+
+    public MonteCarloSimulation withConfidence(double confidence) {
+        Statistics.zForConfidence(confidence);  // validates the range
+        this.confidence = confidence;
+        return this;
+    }
+
+    public MonteCarloSimulation withGameLimits(int minGames, int maxGames) {
+        if (minGames <= 0 || maxGames < minGames) {
+            throw new IllegalArgumentException("need 0 < minGames <= maxGames");
+        }
+        this.minGames = minGames;
+        this.maxGames = maxGames;
+        return this;
+    }
+
+    public Result run() {
+        double z = Statistics.zForConfidence(confidence);
+        Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+        long totalTurns = 0;
+
+        for (int gamesPlayed = 1; gamesPlayed <= maxGames; gamesPlayed++) {
+            Polymorphia game = new Polymorphia(mazeSupplier.get(), detectorSupplier.get());
+            game.play();
+            outcomes.merge(game.getOutcome(), 1, Integer::sum);
+            totalTurns += game.getTurnCount();
+
+            if (gamesPlayed >= minGames && leaderIsCertain(outcomes, gamesPlayed, z)) {
+                logger.info("Stopping after {} games, outcomes so far: {}", gamesPlayed, outcomes);
+                return new Result(outcomes, gamesPlayed, totalTurns, true);
+            }
+        }
+        return new Result(outcomes, maxGames, totalTurns, false);
+    }
+
+    public static boolean leaderIsCertain(Map<GameOutcome, Integer> outcomes, int gamesPlayed, double z) {
+        int leaderCount = outcomes.values().stream().max(Integer::compare).orElse(0);
+        return Statistics.wilsonLowerBound(leaderCount, gamesPlayed, z) > 0.5;
+    }
+
+    public record Result(Map<GameOutcome, Integer> outcomes, int gamesPlayed, long totalTurns, boolean stoppedEarly) {
+
+        public GameOutcome getLeader() {
+            return outcomes.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .orElse(null);
+        }
+
+        public double getWinRate(GameOutcome outcome) {
+            return (double) outcomes.getOrDefault(outcome, 0) / gamesPlayed;
+        }
+
+        public double getAverageTurns() {
+            return (double) totalTurns / gamesPlayed;
+        }
+    }
+}
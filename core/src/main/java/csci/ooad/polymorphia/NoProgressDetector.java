@@ -0,0 +1,40 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Creature;
+
+// Heuristic stalemate check: if no creature has lost health and no food has been eaten
+// for a number of turns, the adventurers are just wandering around until they starve.
+// Keeps state between turns, so use one instance per game.
+public class NoProgressDetector implements ConvergenceDetector {
+    private final int turnsWithoutProgress;
+
+    private double lastCreatureHealth = Double.NaN;
+    private int lastFoodHealth = -1;
+    private int quietTurns = 0;
+
+    public NoProgressDetector(int turnsWithoutProgress) {
+        if (turnsWithoutProgress <= 0) {
+            throw new IllegalArgumentException("turnsWithoutProgress must be positive");
+        }
+        this.turnsWithoutProgress = turnsWithoutProgress;
+    }
+
+    @Override
+    public GameOutcome detect(Polymorphia game) {
+        double creatureHealth = 0;
+        for (Creature creature : game.getAliveCreatures()) {
+            creatureHealth += creature.getHealth();
+        }
+        int foodHealth = game.maze.getTotalFoodHealthValue();
+
+        if (creatureHealth == lastCreatureHealth && foodHealth == lastFoodHealth) {
+            quietTurns++;
+        } else {
+            quietTurns = 0;
+        }
+        lastCreatureHealth = creatureHealth;
+        lastFoodHealth = foodHealth;
+
+        return quietTurns >= turnsWithoutProgress ? GameOutcome.STALEMATE : null;
+    }
+}
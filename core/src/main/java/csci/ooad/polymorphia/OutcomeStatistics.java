@@ -0,0 +1,36 @@
+package csci.ooad.polymorphia;
+
+// How the games played from one state ended
+public record OutcomeStatistics(int adventurerWins, int creatureWins, int noWinner, int stalemates, long totalTurns) {
+    public static final OutcomeStatistics NONE = new OutcomeStatistics(0, 0, 0, 0, 0);
+
+    public OutcomeStatistics plus(GameOutcome outcome, int turns) {
+        return new OutcomeStatistics(
+                adventurerWins + (outcome == GameOutcome.ADVENTURERS_WIN ? 1 : 0),
+                creatureWins + (outcome == GameOutcome.CREATURES_WIN ? 1 : 0),
+                noWinner + (outcome == GameOutcome.NO_WINNER ? 1 : 0),
+                stalemates + (outcome == GameOutcome.STALEMATE ? 1 : 0),
+                totalTurns + turns);
+    }
+
+    public int games() {
+        return adventurerWins + creatureWins + noWinner + stalemates;
+    }
+
+    public double getWinRate(GameOutcome outcome) {
+        if (games() == 0) {
+            return 0.0;
+        }
+        int count = switch (outcome) {
+            case ADVENTURERS_WIN -> adventurerWins;
+            case CREATURES_WIN -> creatureWins;
+            case NO_WINNER -> noWinner;
+            case STALEMATE -> stalemates;
+        };
+        return (double) count / games();
+    }
+
+    public double getAverageTurns() {
+        return games() == 0 ? 0.0 : (double) totalTurns / games();
+    }
+}
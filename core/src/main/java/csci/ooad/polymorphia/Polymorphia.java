@@ -0,0 +1,287 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.ActionDispatcher;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.jfr.TurnEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+
+public class Polymorphia {
+    private static final Logger logger = LoggerFactory.getLogger(Polymorphia.class);
+
+    Maze maze;
+    int turnCount = 0;
+    private ConvergenceDetector convergenceDetector = ConvergenceDetector.never();
+    private GameOutcome predictedOutcome;
+
+    // Characters still to act in the current turn; null between turns
+    private List<Character> pendingActions;
+    private int livingAtTurnStart;
+    private int actionsThisTurn;
+    private TurnEvent turnEvent;
+    private final List<TurnListener> turnListeners = new ArrayList<>();
+
+    // Only adventurers and Demons next to one are scheduled; parked Demons are woken when an
+    // adventurer walks in. Everybody else is passive: their action cannot change the game.
+    private boolean activeSetScheduling = true;
+    private final Set<Character> scheduledThisTurn = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Demon> wokenDemons = new ArrayList<>();
+
+    public Polymorphia(Maze maze) {
+        this.maze = maze;
+        // isOver() is asked every turn; with the occupancy bitsets it no longer visits every room
+        maze.getOccupancy();
+        maze.addRoomObserver(new RoomObserver() {
+            @Override
+            public void characterEntered(Room room, Character character) {
+                wakeParkedDemons(room, character);
+            }
+        });
+    }
+
+    public Polymorphia(Maze maze, ConvergenceDetector convergenceDetector) {
+        this(maze);
+        this.convergenceDetector = convergenceDetector;
+    }
+
+    // Off schedules every living character every turn, as the game always used to
+    public void setActiveSetScheduling(boolean activeSetScheduling) {
+        if (isTurnInProgress()) {
+            throw new IllegalStateException("scheduling can only change between turns");
+        }
+        this.activeSetScheduling = activeSetScheduling;
+    }
+
+    // What-if branch of this game: same turn count, forked maze, no convergence detector
+    public Polymorphia fork() {
+        if (isTurnInProgress()) {
+            throw new IllegalStateException("games can only be forked between turns");
+        }
+        Polymorphia branch = new Polymorphia(maze.fork());
+        branch.turnCount = turnCount;
+        branch.activeSetScheduling = activeSetScheduling;
+        return branch;
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    public void addTurnListener(TurnListener listener) {
+        turnListeners.add(listener);
+    }
+
+    public void removeTurnListener(TurnListener listener) {
+        turnListeners.remove(listener);
+    }
+
+    public void setConvergenceDetector(ConvergenceDetector convergenceDetector) {
+        this.convergenceDetector = convergenceDetector;
+    }
+
+    public String toString() {
+        return maze.appendTo(new StringBuilder("Polymorphia MAZE: turn ").append(turnCount).append('\n')).toString();
+    }
+
+    // Game is over when all creatures are killed
+    // or all adventurers are killed
+    public boolean isOver() {
+        return !hasLivingAdventurers() || !hasLivingCreatures();
+    }
+
+    public boolean hasLivingCreatures() {
+        return maze.hasLivingCreatures();
+    }
+
+    public boolean hasLivingAdventurers() {
+        return maze.hasLivingAdventurers();
+    }
+
+    public void playTurn() {
+        startTurn();
+        while (playNextAction()) {
+            // keep going until every character has acted
+        }
+    }
+
+    // A turn can also be played one action at a time, e.g. to spread it over several ticks of a
+    // real-time loop. Characters still act in random order, each at most once per turn.
+    public void startTurn() {
+        if (isTurnInProgress()) {
+            throw new IllegalStateException("turn " + turnCount + " is still in progress");
+        }
+        if (turnCount == 0) {
+            logger.info("Starting play...");
+        }
+        turnCount += 1;
+        turnEvent = new TurnEvent();
+        turnEvent.begin();
+
+        pendingActions = activeSetScheduling ? maze.getActiveCharacters() : getLivingCharacters();
+        livingAtTurnStart = pendingActions.size();
+        actionsThisTurn = 0;
+        scheduledThisTurn.clear();
+        if (activeSetScheduling) {
+            scheduledThisTurn.addAll(pendingActions);
+        }
+        if (pendingActions.isEmpty()) {
+            finishTurn();
+        }
+    }
+
+    // Plays one character's action; false once the turn is complete. The drawn character swaps
+    // places with the last one and is dropped, and characters killed earlier in the turn are only
+    // dropped when drawn, so an action costs O(1) however many are still pending. If only such
+    // characters are left, the next call ends the turn without an action.
+    public boolean playNextAction() {
+        if (!isTurnInProgress()) {
+            return false;
+        }
+        while (!pendingActions.isEmpty()) {
+            int index = Die.randomLessThan(pendingActions.size());
+            Character character = pendingActions.get(index);
+            pendingActions.set(index, pendingActions.getLast());
+            pendingActions.removeLast();
+            if (!isDead(character)) {
+                ActionDispatcher.act(character);
+                actionsThisTurn++;
+                break;
+            }
+        }
+        if (pendingActions.isEmpty()) {
+            finishTurn();
+            return false;
+        }
+        return true;
+    }
+
+    public boolean isTurnInProgress() {
+        return pendingActions != null;
+    }
+
+    private void finishTurn() {
+        pendingActions = null;
+        turnEvent.end();
+        if (turnEvent.shouldCommit()) {
+            turnEvent.turn = turnCount;
+            turnEvent.livingCharacters = livingAtTurnStart;
+            turnEvent.actions = actionsThisTurn;
+            turnEvent.commit();
+        }
+        turnEvent = null;
+        for (TurnListener listener : turnListeners) {
+            listener.turnEnded(this);
+        }
+    }
+
+    // In a full shuffle of the turn a parked Demon would have had a uniformly random slot among the
+    // scheduled characters. It still gets its action this turn only if that slot lies after the
+    // character acting right now: remaining + 1 of the acted + 1 + remaining + 1 possible slots.
+    // The acting character has already left pendingActions, so everything in it is remaining.
+    private void wakeParkedDemons(Room room, Character entering) {
+        if (!activeSetScheduling || !isTurnInProgress() || !entering.isAdventurer() || !room.hasLivingDemons()) {
+            return;
+        }
+        wokenDemons.clear();
+        room.collectLivingDemons(wokenDemons);
+        for (Demon demon : wokenDemons) {
+            if (scheduledThisTurn.add(demon)) {
+                int remaining = pendingActions.size();
+                if (Die.randomLessThan(actionsThisTurn + remaining + 2) < remaining + 1) {
+                    pendingActions.add(demon);
+                }
+            }
+        }
+    }
+
+    private static boolean isDead(Character character) {
+        return !character.isAlive();
+    }
+
+    public List<Character> getLivingCharacters() {
+        return maze.getLivingCharacters();
+    }
+
+
+    public void play() {
+        while (!isOver()) {
+            predictedOutcome = convergenceDetector.detect(this);
+            if (predictedOutcome != null) {
+                break;
+            }
+            logger.info("{}", this);
+            playTurn();
+        }
+        if (predictedOutcome != null) {
+            logger.info("The game was decided after {} turns: {}", turnCount, predictedOutcome);
+            return;
+        }
+        logger.info("The game ended after {} turns.", turnCount);
+        String eventDescription;
+        if (hasLivingAdventurers()) {
+            eventDescription = "The adventurers won! Left standing are:\n" + getAdventurerNames() + "\n";
+        } else if (hasLivingCreatures()) {
+            eventDescription = "The creatures won! Left standing are:\n" + getCreatureNames() + "\n";
+        } else {
+            eventDescription = "No team won! Everyone died!\n";
+        }
+        logger.info(eventDescription);
+    }
+
+    String getAdventurerNames() {
+        return String.join("\n ", getLivingCharacters().stream().map(Object::toString).toList());
+    }
+
+    String getCreatureNames() {
+        return String.join("\n ", getAliveCreatures().stream().map(Object::toString).toList());
+    }
+
+    public List<Creature> getAliveCreatures() {
+        return maze.getLivingCreatures();
+    }
+
+    // The actual result once the game is over, or the detector's prediction if play() stopped early
+    public GameOutcome getOutcome() {
+        if (predictedOutcome != null) {
+            return predictedOutcome;
+        }
+        if (!isOver()) {
+            return null;
+        }
+        if (hasLivingAdventurers()) {
+            return GameOutcome.ADVENTURERS_WIN;
+        } else if (hasLivingCreatures()) {
+            return GameOutcome.CREATURES_WIN;
+        }
+        return GameOutcome.NO_WINNER;
+    }
+
+    public boolean wasStoppedEarly() {
+        return predictedOutcome != null;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    public Character getWinner() {
+        if (!isOver() || !hasLivingCharacters()) {
+            // No one has won yet or no one won -- all died
+            return null;
+        }
+        return getLivingCharacters().getFirst();
+    }
+
+    private boolean hasLivingCharacters() {
+        return !getLivingCharacters().isEmpty();
+    }
+}
\ No newline at end of file
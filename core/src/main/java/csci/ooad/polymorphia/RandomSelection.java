@@ -0,0 +1,64 @@
+package csci.ooad.polymorphia;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+// Picks random elements straight out of existing storage without copying it.
+// All randomness goes through Die so games stay consistent with the dice.
+public final class RandomSelection {
+
+    private RandomSelection() {
+    }
+
+    public static <T> T pick(Collection<T> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        if (items instanceof List<T> list && items instanceof RandomAccess) {
+            return list.get(Die.randomLessThan(list.size()));
+        }
+        return reservoirSample(items, item -> true);
+    }
+
+    // Two passes over an indexed list: count the matches, then walk to the chosen one.
+    // Costs a single random draw, unlike reservoir sampling.
+    public static <T> T pickMatching(List<? extends T> items, Predicate<? super T> filter) {
+        if (!(items instanceof RandomAccess)) {
+            return reservoirSample(items, filter);
+        }
+        int matches = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (filter.test(items.get(i))) {
+                matches++;
+            }
+        }
+        if (matches == 0) {
+            return null;
+        }
+        int target = Die.randomLessThan(matches);
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            if (filter.test(item) && target-- == 0) {
+                return item;
+            }
+        }
+        throw new IllegalStateException("items changed while picking");
+    }
+
+    // Single pass for storage we can't index into: the k-th match replaces the pick with probability 1/k
+    public static <T> T reservoirSample(Iterable<? extends T> items, Predicate<? super T> filter) {
+        T chosen = null;
+        int seen = 0;
+        for (T item : items) {
+            if (filter.test(item)) {
+                seen++;
+                if (Die.randomLessThan(seen) == 0) {
+                    chosen = item;
+                }
+            }
+        }
+        return chosen;
+    }
+}
@@ -0,0 +1,192 @@
+package csci.ooad.polymorphia;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Hosts a game live at a fixed tick rate instead of as fast as possible. Every tick plays
+// character actions until the turn is done or the tick's time budget is used up; an
+// unfinished turn carries on in the next tick. Rendering for spectators is the first thing
+// dropped when a tick runs over budget, so tick latency stays steady under load.
+public class RealTimeGameLoop {
+    private static final Logger logger = LoggerFactory.getLogger(RealTimeGameLoop.class);
+
+    private final Polymorphia game;
+    private int ticksPerSecond = 10;
+    private Duration tickBudget;
+    private Consumer<Polymorphia> renderer = game -> logger.info("{}", game);
+    private ScheduledExecutorService scheduler;
+
+    private final CompletableFuture<Metrics> finished = new CompletableFuture<>();
+    private ScheduledFuture<?> ticking;
+    private boolean ownsScheduler;
+    private long firstTickNanos;
+    private long periodNanos;
+    private long budgetNanos;
+    private int ticksInCurrentTurn;
+
+    // Written by the ticking thread only, read through getMetrics()
+    private long ticks;
+    private long turnsStarted;
+    private long splitTurns;
+    private long overBudgetTicks;
+    private long skippedRenders;
+    private double meanLatencyNanos;
+    private double latencySquaredDeviations;
+    private long maxLatencyNanos;
+    private long maxWorkNanos;
+
+    public RealTimeGameLoop(Polymorphia game) {
+        this.game = game;
+    }
+
+    public RealTimeGameLoop withTicksPerSecond(int ticksPerSecond) {
+        if (ticksPerSecond <= 0) {
+            throw new IllegalArgumentException("ticksPerSecond must be positive");
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        return this;
+    }
+
+    // How much of each tick may go to playing and rendering; defaults to 80% of the tick
+    public RealTimeGameLoop withTickBudget(Duration tickBudget) {
+        if (tickBudget.isNegative() || tickBudget.isZero()) {
+            throw new IllegalArgumentException("tickBudget must be positive");
+        }
+        this.tickBudget = tickBudget;
+        return this;
+    }
+
+    public RealTimeGameLoop withRenderer(Consumer<Polymorphia> renderer) {
+        this.renderer = renderer;
+        return this;
+    }
+
+    // Without one, the loop starts and later shuts down its own single-threaded scheduler
+    public RealTimeGameLoop withScheduler(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
+    public synchronized CompletableFuture<Metrics> start() {
+        if (ticking != null) {
+            throw new IllegalStateException("the loop has already been started");
+        }
+        periodNanos = TimeUnit.SECONDS.toNanos(1) / ticksPerSecond;
+        budgetNanos = tickBudget != null ? tickBudget.toNanos() : periodNanos * 4 / 5;
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor();
+            ownsScheduler = true;
+        }
+        firstTickNanos = System.nanoTime();
+        // A fixed-rate task never overlaps with itself, so the game only ever sees one thread at a time
+        ticking = scheduler.scheduleAtFixedRate(this::tick, 0, periodNanos, TimeUnit.NANOSECONDS);
+        return finished;
+    }
+
+    // Blocks until the game is over
+    public Metrics run() {
+        return start().join();
+    }
+
+    public synchronized void stop() {
+        if (ticking != null) {
+            ticking.cancel(false);
+        }
+        if (ownsScheduler) {
+            scheduler.shutdown();
+        }
+        finished.complete(getMetrics());
+    }
+
+    private void tick() {
+        try {
+            playTick();
+        } catch (RuntimeException e) {
+            // An exception would silently cancel the fixed-rate task, so end the loop instead
+            synchronized (this) {
+                if (ticking != null) {
+                    ticking.cancel(false);
+                }
+                if (ownsScheduler) {
+                    scheduler.shutdown();
+                }
+            }
+            finished.completeExceptionally(e);
+        }
+    }
+
+    private void playTick() {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+
+        if (!game.isTurnInProgress()) {
+            if (game.isOver()) {
+                stop();
+                return;
+            }
+            game.startTurn();
+            synchronized (this) {
+                turnsStarted++;
+            }
+            ticksInCurrentTurn = 0;
+        }
+        ticksInCurrentTurn++;
+
+        // Always at least one action, so an overloaded loop still makes progress
+        boolean turnInProgress = game.playNextAction();
+        while (turnInProgress && System.nanoTime() < deadline) {
+            turnInProgress = game.playNextAction();
+        }
+
+        boolean rendered = false;
+        if (System.nanoTime() < deadline) {
+            renderer.accept(game);
+            rendered = true;
+        }
+        long end = System.nanoTime();
+
+        long expectedStart = firstTickNanos + ticks * periodNanos;
+        record(Math.max(0, start - expectedStart), end - start, end > deadline, rendered,
+                !turnInProgress && ticksInCurrentTurn > 1);
+    }
+
+    private synchronized void record(long latencyNanos, long workNanos, boolean overBudget, boolean rendered,
+                                     boolean finishedSplitTurn) {
+        ticks++;
+        // Welford's running mean and variance of how late each tick started
+        double delta = latencyNanos - meanLatencyNanos;
+        meanLatencyNanos += delta / ticks;
+        latencySquaredDeviations += delta * (latencyNanos - meanLatencyNanos);
+        maxLatencyNanos = Math.max(maxLatencyNanos, latencyNanos);
+        maxWorkNanos = Math.max(maxWorkNanos, workNanos);
+        if (overBudget) {
+            overBudgetTicks++;
+        }
+        if (!rendered) {
+            skippedRenders++;
+        }
+        if (finishedSplitTurn) {
+            splitTurns++;
+        }
+    }
+
+    public synchronized Metrics getMetrics() {
+        double jitter = ticks > 1 ? Math.sqrt(latencySquaredDeviations / (ticks - 1)) : 0.0;
+        return new Metrics(ticks, turnsStarted, splitTurns, overBudgetTicks, skippedRenders,
+                Duration.ofNanos(Math.round(meanLatencyNanos)), Duration.ofNanos(maxLatencyNanos),
+                Duration.ofNanos(Math.round(jitter)), Duration.ofNanos(maxWorkNanos));
+    }
+
+    // Latency is how late a tick started against its fixed-rate schedule; jitter is its standard deviation
+    public record Metrics(long ticks, long turns, long splitTurns, long overBudgetTicks, long skippedRenders,
+                          Duration meanLatency, Duration maxLatency, Duration jitter, Duration maxTickWork) {
+    }
+}
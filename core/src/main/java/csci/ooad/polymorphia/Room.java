@@ -0,0 +1,466 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.CharacterType;
+
+import java.util.*;
+
+
+public class Room {
+    // Rooms of a shared topology only have an id; their name is derived when someone asks for it
+    private final int id;
+    private final String name;
+    private final MazeTopology topology;
+    private List<Room> neighbors;
+    // Set once a door is added to a room of a shared topology: from then on the room keeps its own
+    // neighbor list, and the topology itself (shared with other mazes) stays as it was
+    private boolean extraDoors = false;
+    private List<Character> characters = new ArrayList<>();
+    // A forked room reads its original's characters until it needs characters of its own; then
+    // it copies them. The original hands its forks a snapshot of its current list, and before it
+    // changes the list or anybody in it, it gives the snapshot copies of its own.
+    private CharacterSnapshot inheritedCharacters;
+    private CharacterSnapshot publishedCharacters;
+    private List<Food> foodItems = new ArrayList<>();
+    // Set while the food list is shared with a forked copy of this room; whoever changes it first copies it
+    private boolean foodShared = false;
+    // Set by the maze once somebody observes it; forks start without one
+    private RoomObserver observer;
+    // Kept current on every enter, leave and death, so the has/count questions are field reads
+    private int livingAdventurers;
+    private int livingCreatures;
+    private int livingDemons;
+
+    public Room(String name) {
+        this.id = -1;
+        this.name = name;
+        this.topology = null;
+        this.neighbors = new ArrayList<>();
+    }
+
+    // A room of a shared MazeTopology: its neighbors are a view of the topology until a door is added
+    Room(int id, MazeTopology topology, List<Room> sharedNeighbors) {
+        this.id = id;
+        this.name = null;
+        this.topology = topology;
+        this.neighbors = sharedNeighbors;
+    }
+
+    // Fork of another room: same name, and shared food and characters until one side changes them
+    Room(Room original, List<Room> sharedNeighbors) {
+        this.id = original.id;
+        this.name = original.name;
+        this.topology = original.topology;
+        this.neighbors = sharedNeighbors;
+        this.foodItems = original.foodItems;
+        this.foodShared = true;
+        original.foodShared = true;
+        this.inheritedCharacters = original.shareCharacters();
+        this.livingAdventurers = original.livingAdventurers;
+        this.livingCreatures = original.livingCreatures;
+        this.livingDemons = original.livingDemons;
+    }
+
+    private CharacterSnapshot shareCharacters() {
+        if (inheritedCharacters != null) {
+            return inheritedCharacters;
+        }
+        if (publishedCharacters == null) {
+            publishedCharacters = new CharacterSnapshot(characters);
+        }
+        return publishedCharacters;
+    }
+
+    // For anything that hands out this room's characters: a fork copies them first
+    private List<Character> characters() {
+        if (inheritedCharacters != null) {
+            List<Character> inherited = inheritedCharacters.characters;
+            inheritedCharacters = null;
+            characters = new ArrayList<>(inherited.size());
+            for (Character character : inherited) {
+                Character copy = character.copy();
+                characters.add(copy);
+                copy.enterRoom(this);
+            }
+        }
+        return characters;
+    }
+
+    // For anything that changes them: forks still reading the current list get their own snapshot
+    private List<Character> ownCharacters() {
+        List<Character> own = characters();
+        if (publishedCharacters != null) {
+            publishedCharacters.freeze();
+            publishedCharacters = null;
+        }
+        return own;
+    }
+
+    // Same characters, for reading only; a fork does not copy anything for this
+    private List<Character> visibleCharacters() {
+        return inheritedCharacters != null ? inheritedCharacters.characters : characters;
+    }
+
+    // True until this forked room needed characters of its own
+    boolean sharesCharacters() {
+        return inheritedCharacters != null;
+    }
+
+    int indexOf(Character character) {
+        List<Character> characters = characters();
+        for (int i = 0; i < characters.size(); i++) {
+            if (characters.get(i) == character) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    Character getCharacter(int position) {
+        return characters().get(position);
+    }
+
+    private List<Food> ownFood() {
+        if (foodShared) {
+            foodItems = new ArrayList<>(foodItems);
+            foodShared = false;
+        }
+        return foodItems;
+    }
+
+    public String getName() {
+        return name != null ? name : topology.roomName(id);
+    }
+
+    // Index in the room's topology, or -1 for a room built by hand
+    public int getId() {
+        return id;
+    }
+
+    public List<Adventurer> getLivingAdventurers() {
+        return characters().stream()
+                .filter(Character::isAdventurer)
+                .filter(Character::isAlive)
+                .map(Adventurer.class::cast)
+                .sorted().toList();
+    }
+
+    // Same adventurers as getLivingAdventurers(), unsorted and without allocating a new list
+    public int collectLivingAdventurers(Collection<? super Adventurer> into) {
+        int collected = 0;
+        for (Character character : characters()) {
+            if (character.isAdventurer() && character.isAlive()) {
+                into.add((Adventurer) character);
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    // Same characters as getLivingCharacters(), without allocating a new list
+    public int collectLivingCharacters(Collection<? super Character> into) {
+        int collected = 0;
+        for (Character character : characters()) {
+            if (character.isAlive()) {
+                into.add(character);
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    public int countLivingAdventurers() {
+        return livingAdventurers;
+    }
+
+    public int countLivingCreatures() {
+        return livingCreatures;
+    }
+
+    public int countLivingDemons() {
+        return livingDemons;
+    }
+
+    public int countFoodItems() {
+        return foodItems.size();
+    }
+
+    public List<Creature> getLivingCreatures() {
+        return characters().stream()
+                .filter(Character::isCreature)
+                .filter(Character::isAlive)
+                .map(Creature.class::cast)
+                .sorted()
+                .toList();
+    }
+
+    public List<String> getContents() {
+        List<String> contents = new ArrayList<>(visibleCharacters().stream()
+                .map(Object::toString)
+                .toList());
+        contents.addAll(this.foodItems.stream()
+                .map(Object::toString)
+                .toList());
+        return contents;
+    }
+
+    public void addNeighbor(Room neighbor) {
+        // Make sure we are never a neighbor of ourselves
+        assert this != neighbor;
+        if (topology != null && !extraDoors) {
+            neighbors = new ArrayList<>(neighbors);
+            extraDoors = true;
+        }
+        this.neighbors.add(neighbor);
+    }
+
+    boolean hasExtraDoors() {
+        return extraDoors;
+    }
+
+    // A forked room's copy of its original's own neighbor list
+    void useOwnNeighbors(List<Room> ownNeighbors) {
+        this.neighbors = ownNeighbors;
+        this.extraDoors = true;
+    }
+
+    public Room connect(Room neighbor) {
+        this.addNeighbor(neighbor);
+        neighbor.addNeighbor(this);
+        return this;
+    }
+
+    public String toString() {
+        return appendTo(new StringBuilder()).toString();
+    }
+
+    // Same text as toString(), written straight into a shared buffer
+    public StringBuilder appendTo(StringBuilder representation) {
+        representation.append('\t').append(getName()).append(":\n\t\t");
+        String separator = "";
+        for (Character character : visibleCharacters()) {
+            representation.append(separator).append(character);
+            separator = "\n\t\t";
+        }
+        for (Food foodItem : foodItems) {
+            representation.append(separator).append(foodItem);
+            separator = "\n\t\t";
+        }
+        return representation;
+    }
+
+    public void add(Character character) {
+        ownCharacters().add(character);
+        count(character, 1);
+        character.enterRoom(this);
+        if (observer != null) {
+            observer.characterEntered(this, character);
+        }
+    }
+
+    void setObserver(RoomObserver observer) {
+        this.observer = observer;
+    }
+
+    // Characters whose action can change the game: every living adventurer, and living Demons
+    // sharing the room with one. Plain creatures never do anything and are left out.
+    public int collectActiveCharacters(Collection<? super Character> into) {
+        if (!hasLivingAdventurers()) {
+            return 0;
+        }
+        int collected = 0;
+        for (Character character : characters()) {
+            if (character.isAlive() && (character.isAdventurer() || character.getType() == CharacterType.DEMON)) {
+                into.add(character);
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    // Same demons as the living creatures of type DEMON, without allocating a new list
+    int collectLivingDemons(Collection<? super Demon> into) {
+        if (!hasLivingDemons()) {
+            return 0;
+        }
+        int collected = 0;
+        for (Character character : characters()) {
+            if (isLivingDemon(character)) {
+                into.add((Demon) character);
+                collected++;
+            }
+        }
+        return collected;
+    }
+
+    public boolean hasLivingCreatures() {
+        return livingCreatures > 0;
+    }
+
+    public boolean hasLivingAdventurers() {
+        return livingAdventurers > 0;
+    }
+
+    public void remove(Character character) {
+        if (ownCharacters().remove(character)) {
+            count(character, -1);
+            if (observer != null) {
+                observer.characterLeft(this, character);
+            }
+        }
+    }
+
+    // Called by a character in this room just before its health changes
+    public void healthChanging(Character character) {
+        if (publishedCharacters != null) {
+            ownCharacters();
+        }
+    }
+
+    // Called by a character in this room whenever its health changes
+    public void healthChanged(Character character, double previousHealth) {
+        if (observer != null) {
+            observer.healthChanged(this, character, previousHealth);
+        }
+    }
+
+    // Called by a character that just died in this room
+    public void characterDied(Character character) {
+        recount();
+        if (observer != null) {
+            observer.characterDied(this, character);
+        }
+    }
+
+    private void count(Character character, int change) {
+        if (!character.isAlive()) {
+            return;
+        }
+        if (character.isAdventurer()) {
+            livingAdventurers += change;
+        } else {
+            livingCreatures += change;
+            if (character.getType() == CharacterType.DEMON) {
+                livingDemons += change;
+            }
+        }
+    }
+
+    private void recount() {
+        livingAdventurers = 0;
+        livingCreatures = 0;
+        livingDemons = 0;
+        for (Character character : characters()) {
+            count(character, 1);
+        }
+    }
+
+    public Creature getRandomCreature() {
+        return (Creature) RandomSelection.pickMatching(characters(), Room::isLivingCreature);
+    }
+
+    public Demon getRandomDemon() {
+        return (Demon) RandomSelection.pickMatching(characters(), Room::isLivingDemon);
+    }
+
+    private static boolean isLivingCreature(Character character) {
+        return character.isCreature() && character.isAlive();
+    }
+
+    private static boolean isLivingDemon(Character character) {
+        return character.getType() == CharacterType.DEMON && character.isAlive();
+    }
+
+    public Room getRandomNeighbor() {
+        return RandomSelection.pick(neighbors);
+    }
+
+    public void enter(Character character) {
+        add(character);
+    }
+
+    public List<Character> getLivingCharacters() {
+        return characters().stream()
+                .filter(Character::isAlive)
+                .toList();
+    }
+
+    public void add(Food foodItem) {
+        ownFood().add(foodItem);
+        if (observer != null) {
+            observer.foodAdded(this, foodItem);
+        }
+    }
+
+    public Adventurer getHealthiestAdventurer() {
+        return getLivingAdventurers().stream().max(Comparator.naturalOrder()).get();
+    }
+
+    public Creature getHealthiestCreature() {
+        return getLivingCreatures().stream().max(Comparator.naturalOrder()).get();
+    }
+
+    // The first of the healthiest living Demons, or null if there are none
+    public Demon getHealthiestDemon() {
+        Demon healthiest = null;
+        for (Character character : characters()) {
+            if (isLivingDemon(character) && (healthiest == null || character.compareTo(healthiest) > 0)) {
+                healthiest = (Demon) character;
+            }
+        }
+        return healthiest;
+    }
+
+    public boolean hasLivingDemons() {
+        return livingDemons > 0;
+    }
+
+
+    public boolean hasFood() {
+        return !foodItems.isEmpty();
+    }
+
+    public int getTotalFoodHealthValue() {
+        int total = 0;
+        for (Food foodItem : foodItems) {
+            total += foodItem.getHealthValue();
+        }
+        return total;
+    }
+
+    public Food eatFoodItem() {
+        if (foodItems.isEmpty()) {
+            return null;
+        }
+        Food eaten = ownFood().removeFirst();
+        if (observer != null) {
+            observer.foodEaten(this, eaten);
+        }
+        return eaten;
+    }
+
+    public List<Room> getNeighbors() {
+        return neighbors;
+    }
+
+    // What a room's forks read until they copy it. Starts out as the room's own list and is
+    // swapped for copies of the characters once the room is about to change.
+    private static final class CharacterSnapshot {
+        private List<Character> characters;
+
+        CharacterSnapshot(List<Character> characters) {
+            this.characters = characters;
+        }
+
+        void freeze() {
+            List<Character> copies = new ArrayList<>(characters.size());
+            for (Character character : characters) {
+                copies.add(character.copy());
+            }
+            characters = copies;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Character;
+
+// Told about changes to the rooms of one maze, right after they happen
+public interface RoomObserver {
+
+    default void characterEntered(Room room, Character character) {
+    }
+
+    default void characterLeft(Room room, Character character) {
+    }
+
+    default void characterDied(Room room, Character character) {
+    }
+
+    // Fired before characterDied when the change was fatal
+    default void healthChanged(Room room, Character character, double previousHealth) {
+    }
+
+    default void foodAdded(Room room, Food food) {
+    }
+
+    default void foodEaten(Room room, Food food) {
+    }
+}
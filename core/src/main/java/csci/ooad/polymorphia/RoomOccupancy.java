@@ -0,0 +1,148 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Character;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+// Maze-wide view of which rooms hold adventurers, creatures, Demons and food, one bit per room
+// (indexed like Maze.getRooms()). Rooms report every change, so questions such as "where are
+// fights going to happen" are answered from the bitsets without visiting every room.
+public class RoomOccupancy implements RoomObserver {
+    private final Maze maze;
+    private final BitSet adventurers = new BitSet();
+    private final BitSet creatures = new BitSet();
+    private final BitSet demons = new BitSet();
+    private final BitSet food = new BitSet();
+
+    RoomOccupancy(Maze maze) {
+        this.maze = maze;
+        List<Room> rooms = maze.getRooms();
+        for (int i = 0; i < rooms.size(); i++) {
+            refresh(i, rooms.get(i));
+        }
+    }
+
+    private void refresh(Room room) {
+        int index = maze.indexOfRoom(room);
+        if (index >= 0) {
+            refresh(index, room);
+        }
+    }
+
+    private void refresh(int index, Room room) {
+        adventurers.set(index, room.hasLivingAdventurers());
+        creatures.set(index, room.hasLivingCreatures());
+        demons.set(index, room.hasLivingDemons());
+        food.set(index, room.hasFood());
+    }
+
+    @Override
+    public void characterEntered(Room room, Character character) {
+        refresh(room);
+    }
+
+    @Override
+    public void characterLeft(Room room, Character character) {
+        refresh(room);
+    }
+
+    @Override
+    public void characterDied(Room room, Character character) {
+        refresh(room);
+    }
+
+    @Override
+    public void foodAdded(Room room, Food food) {
+        refresh(room);
+    }
+
+    @Override
+    public void foodEaten(Room room, Food food) {
+        refresh(room);
+    }
+
+    // Next room index at or after the given one holding living adventurers, or -1
+    int nextRoomWithAdventurers(int from) {
+        return adventurers.nextSetBit(from);
+    }
+
+    public boolean hasRoomsWithAdventurers() {
+        return !adventurers.isEmpty();
+    }
+
+    public boolean hasRoomsWithCreatures() {
+        return !creatures.isEmpty();
+    }
+
+    // The returned bitsets are copies and can be combined freely
+    public BitSet roomsWithAdventurers() {
+        return (BitSet) adventurers.clone();
+    }
+
+    public BitSet roomsWithCreatures() {
+        return (BitSet) creatures.clone();
+    }
+
+    public BitSet roomsWithDemons() {
+        return (BitSet) demons.clone();
+    }
+
+    public BitSet roomsWithFood() {
+        return (BitSet) food.clone();
+    }
+
+    // Rooms where adventurers and creatures meet, i.e. where the next fights happen
+    public BitSet contestedRooms() {
+        BitSet contested = roomsWithAdventurers();
+        contested.and(creatures);
+        return contested;
+    }
+
+    public int countContestedRooms() {
+        return contestedRooms().cardinality();
+    }
+
+    public List<Room> getContestedRooms() {
+        return toRooms(contestedRooms());
+    }
+
+    public List<Room> toRooms(BitSet roomBits) {
+        List<Room> rooms = maze.getRooms();
+        List<Room> selected = new ArrayList<>(roomBits.cardinality());
+        for (int i = roomBits.nextSetBit(0); i >= 0; i = roomBits.nextSetBit(i + 1)) {
+            selected.add(rooms.get(i));
+        }
+        return selected;
+    }
+
+    // Breadth-first through the neighbors, so the closest in moves; null if no reachable room has food
+    public Room nearestRoomWithFood(Room from) {
+        int start = maze.indexOfRoom(from);
+        if (start < 0 || food.isEmpty()) {
+            return null;
+        }
+        List<Room> rooms = maze.getRooms();
+        BitSet visited = new BitSet(rooms.size());
+        int[] queue = new int[rooms.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        visited.set(start);
+        while (head < tail) {
+            int index = queue[head++];
+            if (food.get(index)) {
+                return rooms.get(index);
+            }
+            for (Room neighbor : rooms.get(index).getNeighbors()) {
+                int next = maze.indexOfRoom(neighbor);
+                if (next >= 0 && !visited.get(next)) {
+                    visited.set(next);
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,134 @@
+package csci.ooad.polymorphia;
+
+import java.util.Random;
+
+public final class Statistics {
+
+    private Statistics() {
+    }
+
+    // Two-sided z value for a confidence level, e.g. 0.95 -> 1.96 (Acklam's approximation)
+    public static double zForConfidence(double confidence) {
+        if (confidence <= 0 || confidence >= 1) {
+            throw new IllegalArgumentException("confidence must be between 0 and 1");
+        }
+        return normalQuantile(1 - (1 - confidence) / 2);
+    }
+
+    public static double wilsonLowerBound(long successes, long trials, double z) {
+        return wilsonBound(successes, trials, z, -1);
+    }
+
+    public static double wilsonUpperBound(long successes, long trials, double z) {
+        return wilsonBound(successes, trials, z, 1);
+    }
+
+    private static double wilsonBound(long successes, long trials, double z, int sign) {
+        if (trials == 0) {
+            return sign < 0 ? 0.0 : 1.0;
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double center = p + z2 / (2.0 * trials);
+        double margin = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials));
+        return (center + sign * margin) / (1 + z2 / trials);
+    }
+
+    // Successes in n independent trials. Exact for small n or few expected successes; beyond that
+    // the normal approximation, which is what lets bulk simulations split billions at once.
+    public static long binomial(long n, double p, Random random) {
+        if (n <= 0 || p <= 0) {
+            return 0;
+        }
+        if (p >= 1) {
+            return n;
+        }
+        if (p > 0.5) {
+            return n - binomial(n, 1 - p, random);
+        }
+        if (n <= 64) {
+            long successes = 0;
+            for (long i = 0; i < n; i++) {
+                if (random.nextDouble() < p) {
+                    successes++;
+                }
+            }
+            return successes;
+        }
+        double mean = n * p;
+        if (mean < 30) {
+            // Geometric gaps between successes, so the cost follows the successes, not n
+            double logFailure = Math.log1p(-p);
+            long successes = 0;
+            long trial = 0;
+            while (true) {
+                trial += (long) (Math.log(1 - random.nextDouble()) / logFailure) + 1;
+                if (trial > n) {
+                    return successes;
+                }
+                successes++;
+            }
+        }
+        long sample = Math.round(mean + Math.sqrt(mean * (1 - p)) * random.nextGaussian());
+        return Math.max(0, Math.min(n, sample));
+    }
+
+    // Successes among `draws` taken without replacement from a population holding `successes` of
+    // them. Exact while the smaller of the two is small, the normal approximation beyond that.
+    public static long hypergeometric(long population, long successes, long draws, Random random) {
+        if (successes < 0 || draws < 0 || successes > population || draws > population) {
+            throw new IllegalArgumentException("need 0 <= successes, draws <= population");
+        }
+        if (draws == 0 || successes == 0) {
+            return 0;
+        }
+        if (draws > population / 2) {
+            // Whatever is not drawn is a draw of the complement
+            return successes - hypergeometric(population, successes, population - draws, random);
+        }
+        long lowest = Math.max(0, draws - (population - successes));
+        long highest = Math.min(draws, successes);
+        // The count is symmetric in successes and draws, so walk whichever is smaller
+        long walked = Math.min(draws, successes);
+        long marked = Math.max(draws, successes);
+        if (walked <= 64) {
+            long hits = 0;
+            for (long i = 0; i < walked; i++) {
+                if (random.nextDouble() * (population - i) < marked - hits) {
+                    hits++;
+                }
+            }
+            return hits;
+        }
+        double p = (double) successes / population;
+        double mean = draws * p;
+        double variance = mean * (1 - p) * (population - draws) / (population - 1.0);
+        long sample = Math.round(mean + Math.sqrt(variance) * random.nextGaussian());
+        return Math.max(lowest, Math.min(highest, sample));
+    }
+
+    static double normalQuantile(double p) {
+        final double[] a = {-3.969683028665376e+01, 2.209460984245205e+02, -2.759285104469687e+02,
+                1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00};
+        final double[] b = {-5.447609879822406e+01, 1.615858368580409e+02, -1.556989798598866e+02,
+                6.680131188771972e+01, -1.328068155288572e+01};
+        final double[] c = {-7.784894002430293e-03, -3.223964580411365e-01, -2.400758277161838e+00,
+                -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00};
+        final double[] d = {7.784695709041462e-03, 3.224671290700398e-01, 2.445134137142996e+00,
+                3.754408661907416e+00};
+        final double low = 0.02425;
+
+        if (p < low) {
+            double q = Math.sqrt(-2 * Math.log(p));
+            return (((((c[0] * q + c[1]) * q + c[2]) * q + c[3]) * q + c[4]) * q + c[5])
+                    / ((((d[0] * q + d[1]) * q + d[2]) * q + d[3]) * q + 1);
+        }
+        if (p > 1 - low) {
+            return -normalQuantile(1 - p);
+        }
+        double q = p - 0.5;
+        double r = q * q;
+        return (((((a[0] * r + a[1]) * r + a[2]) * r + a[3]) * r + a[4]) * r + a[5]) * q
+                / (((((b[0] * r + b[1]) * r + b[2]) * r + b[3]) * r + b[4]) * r + 1);
+    }
+}
@@ -0,0 +1,106 @@
+package csci.ooad.polymorphia;
+
+// Bounded map from state hash to what is known about how games from that state end. Every hash
+// has two candidate slots; when both are taken by other states, the one backed by fewer games
+// gives way, so well-established statistics survive a stream of one-off states.
+public class TranspositionTable {
+    private final long[] hashes;
+    private final OutcomeStatistics[] statistics;
+    private final int mask;
+    private int size = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public TranspositionTable(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity must be at least 2");
+        }
+        int slots = Integer.highestOneBit(capacity);
+        if (slots < capacity) {
+            slots <<= 1;
+        }
+        this.hashes = new long[slots];
+        this.statistics = new OutcomeStatistics[slots];
+        this.mask = slots - 1;
+    }
+
+    public synchronized OutcomeStatistics get(long hash) {
+        int slot = find(hash);
+        if (slot < 0) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return statistics[slot];
+    }
+
+    // Adds one finished game to the statistics of the state it was played from
+    public synchronized OutcomeStatistics record(long hash, GameOutcome outcome, int turns) {
+        int slot = find(hash);
+        OutcomeStatistics known = slot < 0 ? OutcomeStatistics.NONE : statistics[slot];
+        OutcomeStatistics updated = known.plus(outcome, turns);
+        store(slot, hash, updated);
+        return updated;
+    }
+
+    public synchronized void put(long hash, OutcomeStatistics outcomes) {
+        store(find(hash), hash, outcomes);
+    }
+
+    private void store(int slot, long hash, OutcomeStatistics outcomes) {
+        if (slot < 0) {
+            int first = primarySlot(hash);
+            int second = first ^ 1;
+            if (statistics[first] == null) {
+                slot = first;
+            } else if (statistics[second] == null) {
+                slot = second;
+            } else {
+                slot = statistics[first].games() <= statistics[second].games() ? first : second;
+                evictions++;
+                size--;
+            }
+            size++;
+        }
+        hashes[slot] = hash;
+        statistics[slot] = outcomes;
+    }
+
+    private int find(long hash) {
+        int first = primarySlot(hash);
+        if (statistics[first] != null && hashes[first] == hash) {
+            return first;
+        }
+        int second = first ^ 1;
+        if (statistics[second] != null && hashes[second] == hash) {
+            return second;
+        }
+        return -1;
+    }
+
+    // The hashes are already well mixed, the high bits pick the slot
+    private int primarySlot(long hash) {
+        return (int) (hash >>> 32 ^ hash) & mask;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return hashes.length;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+}
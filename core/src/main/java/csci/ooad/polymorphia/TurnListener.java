@@ -0,0 +1,8 @@
+package csci.ooad.polymorphia;
+
+// Called on the game's thread after every complete turn, before the next one starts
+@FunctionalInterface
+public interface TurnListener {
+
+    void turnEnded(Polymorphia game);
+}
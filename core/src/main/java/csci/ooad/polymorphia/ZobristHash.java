@@ -0,0 +1,102 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.CharacterType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 64-bit fingerprint of a maze's state: which living characters of which type and health are in
+// which room, and how much food each room holds. Names play no part, so two games that reach the
+// same situation by different routes get the same hash. Rooms report every move, fight and meal,
+// and the hash is patched for just that change instead of being recomputed.
+//
+// Keys are summed instead of XOR-ed as in classic Zobrist hashing: with XOR, two identical
+// characters in one room would cancel each other out.
+public class ZobristHash implements RoomObserver {
+    private static final long FOOD_SALT = 0x5DEECE66DL;
+
+    private final Maze maze;
+    private long hash;
+
+    ZobristHash(Maze maze) {
+        this.maze = maze;
+        this.hash = of(maze);
+    }
+
+    // Computed from scratch, for mazes that do not keep a hash up to date
+    public static long of(Maze maze) {
+        long hash = 0;
+        List<Character> living = new ArrayList<>();
+        List<Room> rooms = maze.getRooms();
+        for (int index = 0; index < rooms.size(); index++) {
+            Room room = rooms.get(index);
+            living.clear();
+            room.collectLivingCharacters(living);
+            for (Character character : living) {
+                hash += characterKey(character.getType(), character.getHealth(), index);
+            }
+            hash += foodKey(index, room.countFoodItems());
+        }
+        return hash;
+    }
+
+    public long get() {
+        return hash;
+    }
+
+    static long characterKey(CharacterType type, double health, int room) {
+        return mix(mix(type.ordinal() + 31L * room) ^ Double.doubleToLongBits(health));
+    }
+
+    // An empty room adds nothing
+    static long foodKey(int room, int items) {
+        return items == 0 ? 0 : mix(mix(room + FOOD_SALT) + items);
+    }
+
+    // SplitMix64's finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void characterEntered(Room room, Character character) {
+        if (character.isAlive()) {
+            hash += characterKey(character.getType(), character.getHealth(), maze.indexOfRoom(room));
+        }
+    }
+
+    @Override
+    public void characterLeft(Room room, Character character) {
+        if (character.isAlive()) {
+            hash -= characterKey(character.getType(), character.getHealth(), maze.indexOfRoom(room));
+        }
+    }
+
+    @Override
+    public void healthChanged(Room room, Character character, double previousHealth) {
+        int index = maze.indexOfRoom(room);
+        if (previousHealth > 0) {
+            hash -= characterKey(character.getType(), previousHealth, index);
+        }
+        if (character.isAlive()) {
+            hash += characterKey(character.getType(), character.getHealth(), index);
+        }
+    }
+
+    @Override
+    public void foodAdded(Room room, Food food) {
+        int index = maze.indexOfRoom(room);
+        int items = room.countFoodItems();
+        hash += foodKey(index, items) - foodKey(index, items - 1);
+    }
+
+    @Override
+    public void foodEaten(Room room, Food food) {
+        int index = maze.indexOfRoom(room);
+        int items = room.countFoodItems();
+        hash += foodKey(index, items) - foodKey(index, items + 1);
+    }
+}
@@ -0,0 +1,552 @@
+package csci.ooad.polymorphia.aggregate;
+
+import csci.ooad.polymorphia.FightOutcomeTable;
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MazeTopology;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.Statistics;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.CharacterType;
+import csci.ooad.polymorphia.characters.Coward;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Population-scale version of the game: a room holds counts of characters per type and health
+// instead of the characters themselves, so memory grows with rooms times buckets and not with
+// how many characters there are. Health moves in quarter points like the real game, and a turn
+// splits whole buckets with binomial draws, and picks opponents and eaters with hypergeometric
+// ones, instead of acting one character at a time.
+//
+// This is a mean-field approximation rather than an exact replay: within a room the Demons
+// attack first, then the adventurers fight, flee, eat or move as one batch, and everyone who
+// moves arrives after all rooms have been played. Health above the top bucket is clamped.
+public class AggregateGame {
+    private static final Logger logger = LoggerFactory.getLogger(AggregateGame.class);
+
+    static final double DEFAULT_MAX_HEALTH = 64.0;
+    // Longest array the JVM hands out
+    private static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+    private static final int QUARTERS_PER_POINT = 4;
+    private static final CharacterType[] TYPES = CharacterType.values();
+    // ADVENTURER, KNIGHT, COWARD and GLUTTON come first, the Glutton last of them
+    private static final int ADVENTURER_TYPES = 4;
+    private static final int FIGHT_COST = quarters(Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME);
+    private static final int MOVE_COST = quarters(Character.HEALTH_LOST_IN_MOVING_ROOMS);
+    private static final int FLEE_COST = MOVE_COST + quarters(Coward.EXTRA_HEALTH_LOST_IN_FLEEING);
+
+    private final MazeTopology topology;
+    private final int levels;                   // bucket index is health in quarter points, 0 is dead
+    private final long[] counts;                // [room][type][level]
+    private final long[] arrivals;              // moves of the current turn, merged when it ends
+    private final long[] food;
+    private final int foodQuarters = quarters(Food.DEFAULT_FOOD_HEALTH_VALUE);
+
+    // Per-room working space, reused for every room
+    private final long[] staying;
+    private final long[] hungry;
+    private final long[] picked;
+    private final long[] demonsAfter;
+
+    private final FightOutcomeTable table = FightOutcomeTable.sixSided();
+    private final double[] damageProbabilities;
+    private final long[] damageSplit;
+    private Random random = new Random();
+    private int turnCount = 0;
+
+    public AggregateGame(MazeTopology topology) {
+        this(topology, DEFAULT_MAX_HEALTH);
+    }
+
+    public AggregateGame(MazeTopology topology, double maxHealth) {
+        if (maxHealth <= 0) {
+            throw new IllegalArgumentException("maxHealth must be positive");
+        }
+        if (maxHealth * QUARTERS_PER_POINT >= MAX_CELLS) {
+            throw new IllegalArgumentException("maxHealth " + maxHealth + " is too large");
+        }
+        this.topology = topology;
+        this.levels = quarters(maxHealth) + 1;
+        long cells = Math.multiplyExact(Math.multiplyExact((long) topology.roomCount(), TYPES.length), levels);
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException(topology.roomCount() + " rooms with maxHealth " + maxHealth
+                    + " need " + cells + " buckets, more than the " + MAX_CELLS
+                    + " one array can hold; lower maxHealth or split the maze");
+        }
+        this.counts = new long[(int) cells];
+        this.arrivals = new long[counts.length];
+        this.food = new long[topology.roomCount()];
+        this.staying = new long[ADVENTURER_TYPES * levels];
+        this.hungry = new long[ADVENTURER_TYPES * levels];
+        this.picked = new long[ADVENTURER_TYPES * levels];
+        this.demonsAfter = new long[levels];
+
+        int maxDamage = table.maxDamage();
+        this.damageProbabilities = new double[2 * maxDamage + 1];
+        for (int damage = -maxDamage; damage <= maxDamage; damage++) {
+            damageProbabilities[damage + maxDamage] = table.probabilityOfDamage(damage);
+        }
+        this.damageSplit = new long[damageProbabilities.length];
+    }
+
+    // Counts every living character and food item of a maze, which has to have a topology
+    public static AggregateGame of(Maze maze) {
+        MazeTopology topology = maze.getTopology();
+        if (topology == null) {
+            throw new IllegalArgumentException("the maze has no topology to aggregate over");
+        }
+        AggregateGame game = new AggregateGame(topology);
+        List<Room> rooms = maze.getRooms();
+        List<Character> living = new ArrayList<>();
+        for (int room = 0; room < rooms.size(); room++) {
+            living.clear();
+            rooms.get(room).collectLivingCharacters(living);
+            for (Character character : living) {
+                game.add(room, character.getType(), character.getHealth(), 1);
+            }
+            game.addFood(room, rooms.get(room).countFoodItems());
+        }
+        return game;
+    }
+
+    public AggregateGame withSeed(long seed) {
+        this.random = new Random(seed);
+        return this;
+    }
+
+    public AggregateGame add(int room, CharacterType type, long count) {
+        return add(room, type, type.getInitialHealth(), count);
+    }
+
+    public AggregateGame add(int room, CharacterType type, double health, long count) {
+        checkRoom(room);
+        if (health <= 0 || count < 0) {
+            throw new IllegalArgumentException("health must be positive and count not negative");
+        }
+        counts[bucket(room, type) + toLevel(health)] += count;
+        return this;
+    }
+
+    public AggregateGame addFood(int room, long items) {
+        checkRoom(room);
+        if (items < 0) {
+            throw new IllegalArgumentException("items must not be negative");
+        }
+        food[room] += items;
+        return this;
+    }
+
+    private void checkRoom(int room) {
+        if (room < 0 || room >= topology.roomCount()) {
+            throw new IllegalArgumentException("no room " + room + " in a maze of " + topology.roomCount());
+        }
+    }
+
+    public void play() {
+        while (!isOver()) {
+            playTurn();
+        }
+        logger.info("The aggregate game ended after {} turns: {}", turnCount, getOutcome());
+    }
+
+    public void playTurn() {
+        Arrays.fill(arrivals, 0);
+        for (int room = 0; room < topology.roomCount(); room++) {
+            if (countInRoom(room, 0, ADVENTURER_TYPES) > 0) {
+                playRoom(room);
+            }
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += arrivals[i];
+        }
+        turnCount++;
+    }
+
+    private void playRoom(int room) {
+        if (countLiving(room, CharacterType.DEMON) > 0) {
+            demonsAttack(room);
+        }
+        adventurersAct(room);
+    }
+
+    // Every Demon fights every adventurer in the room, like BatchCombat
+    private void demonsAttack(int room) {
+        int demons = bucket(room, CharacterType.DEMON);
+        Arrays.fill(demonsAfter, 0);
+        for (int level = levels - 1; level > 0; level--) {
+            long count = counts[demons + level];
+            counts[demons + level] = 0;
+            for (long demon = 0; demon < count; demon++) {
+                if (countInRoom(room, 0, ADVENTURER_TYPES) == 0) {
+                    demonsAfter[level] += count - demon;
+                    break;
+                }
+                long after = level - fightAllAdventurers(room);
+                if (after > 0) {
+                    demonsAfter[(int) after]++;
+                }
+            }
+        }
+        for (int level = 1; level < levels; level++) {
+            counts[demons + level] += demonsAfter[level];
+        }
+    }
+
+    // Returns the quarter points the Demon lost
+    private long fightAllAdventurers(int room) {
+        Arrays.fill(staying, 0);
+        long demonLost = 0;
+        int maxDamage = table.maxDamage();
+        for (int type = 0; type < ADVENTURER_TYPES; type++) {
+            int base = bucket(room, TYPES[type]);
+            for (int level = 1; level < levels; level++) {
+                long count = counts[base + level];
+                if (count == 0) {
+                    continue;
+                }
+                counts[base + level] = 0;
+                splitByDamage(count);
+                for (int i = 0; i < damageSplit.length; i++) {
+                    long fights = damageSplit[i];
+                    if (fights == 0) {
+                        continue;
+                    }
+                    // The Demon is the attacker: positive damage hurts the adventurer
+                    int damage = i - maxDamage;
+                    int after = level - FIGHT_COST - Math.max(damage, 0) * QUARTERS_PER_POINT;
+                    if (after > 0) {
+                        staying[type * levels + after] += fights;
+                    }
+                    demonLost += fights * (FIGHT_COST + Math.max(-damage, 0) * QUARTERS_PER_POINT);
+                }
+            }
+        }
+        mergeStaying(room);
+        return demonLost;
+    }
+
+    private void adventurersAct(int room) {
+        Arrays.fill(staying, 0);
+        Arrays.fill(hungry, 0);
+        boolean demons = countLiving(room, CharacterType.DEMON) > 0;
+        boolean creatures = demons || countLiving(room, CharacterType.CREATURE) > 0;
+
+        // A regular adventurer only fights when it is the healthiest adventurer in the room
+        int healthiest = healthiestAdventurerLevel(room);
+        boolean regularIsHealthiest = creatures && regularAdventurerIsHealthiest(room, healthiest);
+        CharacterType opponents = demons ? CharacterType.DEMON : CharacterType.CREATURE;
+
+        for (int type = 0; type < ADVENTURER_TYPES; type++) {
+            CharacterType characterType = TYPES[type];
+            int base = bucket(room, characterType);
+            for (int level = 1; level < levels; level++) {
+                long count = counts[base + level];
+                if (count == 0) {
+                    continue;
+                }
+                counts[base + level] = 0;
+
+                long fighters = 0;
+                if (characterType == CharacterType.ADVENTURER) {
+                    fighters = regularIsHealthiest && level == healthiest ? 1 : 0;
+                } else if (demons || (creatures && characterType == CharacterType.KNIGHT)) {
+                    fighters = count;
+                }
+                if (fighters > 0 && countLiving(room, opponents) > 0) {
+                    fight(room, type, level, fighters, opponents);
+                    count -= fighters;
+                }
+                if (count == 0) {
+                    continue;
+                }
+                if (creatures && !demons && characterType == CharacterType.COWARD) {
+                    move(room, type, level, count, FLEE_COST);
+                } else {
+                    hungry[type * levels + level] += count;
+                }
+            }
+        }
+        eatOrMove(room);
+        mergeStaying(room);
+    }
+
+    private int healthiestAdventurerLevel(int room) {
+        for (int level = levels - 1; level > 0; level--) {
+            for (int type = 0; type < ADVENTURER_TYPES; type++) {
+                if (counts[bucket(room, TYPES[type]) + level] > 0) {
+                    return level;
+                }
+            }
+        }
+        return 0;
+    }
+
+    // Ties for the healthiest go to any of the tied adventurers with equal chance
+    private boolean regularAdventurerIsHealthiest(int room, int level) {
+        long tied = 0;
+        for (int type = 0; type < ADVENTURER_TYPES; type++) {
+            tied += counts[bucket(room, TYPES[type]) + level];
+        }
+        long regular = counts[bucket(room, CharacterType.ADVENTURER) + level];
+        return tied > 0 && random.nextDouble() * tied < regular;
+    }
+
+    private void fight(int room, int type, int level, long fighters, CharacterType opponents) {
+        int maxDamage = table.maxDamage();
+        splitByDamage(fighters);
+        long damageToDemons = 0;
+        for (int i = 0; i < damageSplit.length; i++) {
+            long fights = damageSplit[i];
+            if (fights == 0) {
+                continue;
+            }
+            // The adventurer is the attacker: negative damage hurts the adventurer
+            int damage = i - maxDamage;
+            int after = level - FIGHT_COST - Math.max(-damage, 0) * QUARTERS_PER_POINT;
+            if (after > 0) {
+                staying[type * levels + after] += fights;
+            }
+            int hit = FIGHT_COST + Math.max(damage, 0) * QUARTERS_PER_POINT;
+            if (opponents == CharacterType.DEMON) {
+                damageToDemons += fights * hit;
+            } else {
+                hitRandomly(room, opponents, fights, hit);
+            }
+        }
+        if (damageToDemons > 0) {
+            hitHealthiest(room, opponents, damageToDemons);
+        }
+    }
+
+    // Adventurers always pick the healthiest Demon; it takes hits until it dies, then the next one does
+    private void hitHealthiest(int room, CharacterType type, long quarters) {
+        int base = bucket(room, type);
+        for (int level = levels - 1; level > 0 && quarters > 0; level--) {
+            long count = counts[base + level];
+            if (count == 0) {
+                continue;
+            }
+            long killed = Math.min(count, quarters / level);
+            counts[base + level] -= killed;
+            quarters -= killed * level;
+            if (killed < count && quarters > 0) {
+                counts[base + level]--;
+                counts[base + level - (int) quarters]++;
+                quarters = 0;
+            }
+        }
+    }
+
+    // Each hit lands on a different random opponent; more hits than opponents go round again
+    private void hitRandomly(int room, CharacterType type, long hits, int quarters) {
+        int base = bucket(room, type);
+        while (hits > 0) {
+            long pool = countLiving(room, type);
+            if (pool == 0) {
+                return;
+            }
+            long hitNow = Math.min(hits, pool);
+            hits -= hitNow;
+            Arrays.fill(picked, 0, levels, 0);
+            pickDistinct(counts, base + 1, base + levels, pool, hitNow, base);
+            for (int level = 1; level < levels; level++) {
+                if (picked[level] > 0 && level > quarters) {
+                    counts[base + level - quarters] += picked[level];
+                }
+            }
+        }
+    }
+
+    // Non-gluttons eat one item each and gluttons eat whatever is left, in a random order; without
+    // food they move. A non-glutton gets to the food before every glutton with chance 1/(gluttons + 1).
+    private void eatOrMove(int room) {
+        long gluttonsWaiting = sum(hungry, (ADVENTURER_TYPES - 1) * levels, ADVENTURER_TYPES * levels);
+        long othersWaiting = sum(hungry, 0, (ADVENTURER_TYPES - 1) * levels);
+        long items = food[room];
+
+        if (items > 0 && othersWaiting > 0) {
+            long first = gluttonsWaiting == 0 ? othersWaiting
+                    : Statistics.binomial(othersWaiting, 1.0 / (gluttonsWaiting + 1), random);
+            long served = Math.min(items, first);
+            Arrays.fill(picked, 0);
+            pickDistinct(hungry, 0, (ADVENTURER_TYPES - 1) * levels, othersWaiting, served, 0);
+            feed(picked, 0, (ADVENTURER_TYPES - 1) * levels, foodQuarters);
+            items -= served;
+        }
+        if (items > 0 && gluttonsWaiting > 0) {
+            int from = (ADVENTURER_TYPES - 1) * levels;
+            Arrays.fill(picked, 0);
+            pickDistinct(hungry, from, ADVENTURER_TYPES * levels, gluttonsWaiting, 1, 0);
+            feed(picked, from, ADVENTURER_TYPES * levels, items * foodQuarters);
+            items = 0;
+        }
+        food[room] = items;
+
+        for (int i = 0; i < hungry.length; i++) {
+            if (hungry[i] > 0) {
+                move(room, i / levels, i % levels, hungry[i], MOVE_COST);
+            }
+        }
+    }
+
+    private void feed(long[] eaters, int from, int to, long gained) {
+        for (int i = from; i < to; i++) {
+            if (eaters[i] > 0) {
+                int level = i % levels;
+                int after = (int) Math.min(levels - 1, level + gained);
+                staying[i - level + after] += eaters[i];
+            }
+        }
+    }
+
+    // Moves `take` of the `pool` characters counted in source[from, to) out of it, chosen uniformly
+    // without replacement, into picked[i - pickedOffset]
+    private void pickDistinct(long[] source, int from, int to, long pool, long take, int pickedOffset) {
+        for (int i = to - 1; i >= from && take > 0; i--) {
+            long available = source[i];
+            if (available == 0) {
+                continue;
+            }
+            long chosen = Statistics.hypergeometric(pool, available, take, random);
+            source[i] -= chosen;
+            picked[i - pickedOffset] += chosen;
+            pool -= available;
+            take -= chosen;
+        }
+    }
+
+    private void move(int room, int type, int level, long count, int cost) {
+        int degree = topology.degree(room);
+        if (degree == 0) {
+            // Nowhere to go: only the extra cost of fleeing is paid
+            int after = level - (cost - MOVE_COST);
+            if (after > 0) {
+                staying[type * levels + after] += count;
+            }
+            return;
+        }
+        int after = level - cost;
+        if (after <= 0) {
+            return;
+        }
+        long remaining = count;
+        for (int position = 0; position < degree && remaining > 0; position++) {
+            long going = position == degree - 1 ? remaining
+                    : Statistics.binomial(remaining, 1.0 / (degree - position), random);
+            arrivals[bucket(topology.neighbor(room, position), TYPES[type]) + after] += going;
+            remaining -= going;
+        }
+    }
+
+    private void mergeStaying(int room) {
+        for (int type = 0; type < ADVENTURER_TYPES; type++) {
+            int base = bucket(room, TYPES[type]);
+            for (int level = 1; level < levels; level++) {
+                counts[base + level] += staying[type * levels + level];
+            }
+        }
+        Arrays.fill(staying, 0);
+    }
+
+    private void splitByDamage(long fights) {
+        long remaining = fights;
+        double mass = 1.0;
+        for (int i = 0; i < damageSplit.length; i++) {
+            double p = damageProbabilities[i];
+            long share = i == damageSplit.length - 1 ? remaining
+                    : Statistics.binomial(remaining, Math.min(1.0, p / mass), random);
+            damageSplit[i] = share;
+            remaining -= share;
+            mass -= p;
+        }
+    }
+
+    private int bucket(int room, CharacterType type) {
+        return (room * TYPES.length + type.ordinal()) * levels;
+    }
+
+    private int toLevel(double health) {
+        return (int) Math.min(levels - 1, Math.ceil(health * QUARTERS_PER_POINT));
+    }
+
+    private static int quarters(double health) {
+        return (int) Math.round(health * QUARTERS_PER_POINT);
+    }
+
+    private long countInRoom(int room, int fromType, int toType) {
+        return sum(counts, bucket(room, TYPES[fromType]), bucket(room, TYPES[toType - 1]) + levels);
+    }
+
+    private static long sum(long[] values, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += values[i];
+        }
+        return total;
+    }
+
+    public long countLiving(int room, CharacterType type) {
+        int base = bucket(room, type);
+        return sum(counts, base, base + levels);
+    }
+
+    public long countLiving(CharacterType type) {
+        long total = 0;
+        for (int room = 0; room < topology.roomCount(); room++) {
+            total += countLiving(room, type);
+        }
+        return total;
+    }
+
+    public long countLivingAdventurers() {
+        long total = 0;
+        for (int room = 0; room < topology.roomCount(); room++) {
+            total += countInRoom(room, 0, ADVENTURER_TYPES);
+        }
+        return total;
+    }
+
+    public long countLivingCreatures() {
+        return countLiving(CharacterType.CREATURE) + countLiving(CharacterType.DEMON);
+    }
+
+    // Characters of a type in a room whose health rounds up to the given value
+    public long countWithHealth(int room, CharacterType type, double health) {
+        return counts[bucket(room, type) + toLevel(health)];
+    }
+
+    public long countFood(int room) {
+        return food[room];
+    }
+
+    public boolean isOver() {
+        return countLivingAdventurers() == 0 || countLivingCreatures() == 0;
+    }
+
+    public GameOutcome getOutcome() {
+        if (!isOver()) {
+            return null;
+        }
+        if (countLivingAdventurers() > 0) {
+            return GameOutcome.ADVENTURERS_WIN;
+        } else if (countLivingCreatures() > 0) {
+            return GameOutcome.CREATURES_WIN;
+        }
+        return GameOutcome.NO_WINNER;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    // Memory is this many counters, however many characters they count
+    public int getBucketCount() {
+        return counts.length;
+    }
+}
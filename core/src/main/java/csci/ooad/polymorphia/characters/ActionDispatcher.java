@@ -0,0 +1,21 @@
+package csci.ooad.polymorphia.characters;
+
+// Runs a character's action through a switch on its type tag instead of one virtual doAction() call.
+// Every case is its own call site that only ever sees one class, so the JIT can inline each of them;
+// a single doAction() call site in the turn loop sees all six classes and inlines none.
+public final class ActionDispatcher {
+
+    private ActionDispatcher() {
+    }
+
+    public static void act(Character character) {
+        switch (character.getType()) {
+            case ADVENTURER -> ((Adventurer) character).doAction();
+            case KNIGHT -> ((Knight) character).doAction();
+            case COWARD -> ((Coward) character).doAction();
+            case GLUTTON -> ((Glutton) character).doAction();
+            case CREATURE -> ((Creature) character).doAction();
+            case DEMON -> ((Demon) character).doAction();
+        }
+    }
+}
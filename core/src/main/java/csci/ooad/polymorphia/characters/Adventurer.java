@@ -0,0 +1,184 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.jfr.EatEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+public sealed class Adventurer extends Character permits Knight, Coward, Glutton {
+    private static final Logger log = LoggerFactory.getLogger(Adventurer.class);
+
+    // Not copied into forks, so a policy that plays out forked games is not consulted by them
+    private DecisionPolicy decisionPolicy;
+
+    public Adventurer(String name) {
+        super(name, CharacterType.ADVENTURER);
+    }
+
+    public Adventurer(String name, double initialHealth) {
+        super(name, initialHealth, CharacterType.ADVENTURER);
+    }
+
+    Adventurer(String name, double initialHealth, CharacterType type) {
+        super(name, initialHealth, type);
+    }
+
+    @Deprecated
+    public Adventurer(String name, Double initialHealth) {
+        this(name, initialHealth.doubleValue());
+    }
+
+    protected Adventurer(Adventurer original) {
+        super(original);
+    }
+
+    @Override
+    public Adventurer copy() {
+        return new Adventurer(this);
+    }
+
+    public void enterRoom(Room room) {
+        if (getCurrentLocation() != null) {
+            if (getCurrentLocation().equals(room)) {
+                return;
+            }
+            getCurrentLocation().remove(this);
+        }
+        super.enterRoom(room);
+    }
+
+    // Switches on the type tag like ActionDispatcher, so every call below is bound to one final
+    // class and the per-type cases there stay monomorphic all the way down
+    public final void doAction() {
+        Decision decision = decisionPolicy != null ? decisionPolicy.decide(this) : decideByType();
+        if (decision != Decision.FIGHT && mustFightDemon()) {
+            throw new IllegalArgumentException(getName() + " can't run from Demons");
+        }
+        if (decision == Decision.FIGHT && isTimid() && !demonInRoomWithMe()) {
+            throw new IllegalArgumentException(getName() + " only fights Demons");
+        }
+        switch (getType()) {
+            case COWARD -> ((Coward) this).carryOut(decision);
+            case GLUTTON -> ((Glutton) this).carryOut(decision);
+            default -> carryOutAsAdventurer(decision);
+        }
+    }
+
+    private Decision decideByType() {
+        return switch (getType()) {
+            case COWARD -> ((Coward) this).defaultDecision();
+            case GLUTTON -> ((Glutton) this).defaultDecision();
+            default -> adventurerDecision();
+        };
+    }
+
+    // Null goes back to the built-in behavior
+    public void setDecisionPolicy(DecisionPolicy decisionPolicy) {
+        this.decisionPolicy = decisionPolicy;
+    }
+
+    public DecisionPolicy getDecisionPolicy() {
+        return decisionPolicy;
+    }
+
+    // What this kind of adventurer does on its own
+    public Decision defaultDecision() {
+        return adventurerDecision();
+    }
+
+    private Decision adventurerDecision() {
+        if (shouldFight()) {
+            return Decision.FIGHT;
+        } else if (getCurrentLocation().hasFood()) {
+            return Decision.EAT;
+        }
+        return Decision.MOVE;
+    }
+
+    public List<Decision> legalDecisions() {
+        if (mustFightDemon()) {
+            return List.of(Decision.FIGHT);
+        }
+        List<Decision> decisions = new ArrayList<>(3);
+        Room room = getCurrentLocation();
+        if (room.hasLivingCreatures() && !isTimid()) {
+            decisions.add(Decision.FIGHT);
+        }
+        if (room.hasFood()) {
+            decisions.add(Decision.EAT);
+        }
+        decisions.add(Decision.MOVE);
+        return decisions;
+    }
+
+    public void carryOut(Decision decision) {
+        carryOutAsAdventurer(decision);
+    }
+
+    private void carryOutAsAdventurer(Decision decision) {
+        switch (decision) {
+            case FIGHT -> {
+                if (demonInRoomWithMe()) {
+                    fight(getCurrentLocation().getHealthiestDemon());
+                } else if (creatureInRoomWithMe()) {
+                    fight(getCurrentLocation().getRandomCreature());
+                } else {
+                    throw new IllegalArgumentException(getName() + " has nobody to fight");
+                }
+            }
+            case EAT -> {
+                if (!getCurrentLocation().hasFood()) {
+                    throw new IllegalArgumentException(getName() + " has nothing to eat");
+                }
+                eatFood();
+            }
+            case MOVE -> move();
+        }
+    }
+    public void eatFood() {
+        Food foodItem = getCurrentLocation().eatFoodItem();
+        log.info(getName() + " just ate " + foodItem);
+        this.gainHealth(foodItem.getHealthValue());
+
+        EatEvent event = new EatEvent();
+        if (event.shouldCommit()) {
+            event.character = getName();
+            event.food = foodItem.getName();
+            event.healthGained = foodItem.getHealthValue();
+            event.commit();
+        }
+    }
+
+    boolean shouldFight() {
+        return creatureInRoomWithMe() && iAmHealthiestInRoom();
+    }
+
+    public boolean iAmHealthiestInRoom() {
+        return this.equals(getCurrentLocation().getHealthiestAdventurer());
+    }
+
+    boolean creatureInRoomWithMe() {
+        return getCurrentLocation().hasLivingCreatures();
+    }
+
+    boolean demonInRoomWithMe() {
+        return getCurrentLocation().hasLivingDemons();
+    }
+
+    // Cowards and Gluttons always fight a Demon in the room, whoever decides for them
+    private boolean mustFightDemon() {
+        return isTimid() && demonInRoomWithMe();
+    }
+
+    // Cowards and Gluttons fight Demons and nothing else; CertainOutcomeDetector relies on it
+    private boolean isTimid() {
+        CharacterType type = getType();
+        return type == CharacterType.COWARD || type == CharacterType.GLUTTON;
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.FightOutcomeTable;
+import csci.ooad.polymorphia.jfr.CombatBatchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Resolves one character's fights against every living adventurer in its room in a single pass.
+// All fight outcomes are drawn up front into a reused buffer, health changes follow the same rules and
+// order as Character.fight(), and the whole batch is reported as one log line and one event.
+public class BatchCombat {
+    private static final Logger logger = LoggerFactory.getLogger(BatchCombat.class);
+
+    private final List<Adventurer> opponents = new ArrayList<>();
+    private final FightOutcomeTable table = FightOutcomeTable.sixSided();
+    private int[] outcomes = new int[16];
+
+    public void fightAllAdventurers(Character attacker) {
+        opponents.clear();
+        int fights = attacker.getCurrentLocation().collectLivingAdventurers(opponents);
+        if (fights == 0) {
+            return;
+        }
+
+        if (outcomes.length < fights) {
+            outcomes = new int[Math.max(fights, 2 * outcomes.length)];
+        }
+        table.sampleOutcomes(outcomes, fights);
+
+        int damageDealt = 0;
+        int damageTaken = 0;
+        int killed = 0;
+        for (int i = 0; i < fights; i++) {
+            Adventurer opponent = opponents.get(i);
+            int damage = table.damage(outcomes[i]);
+
+            if (damage > 0) {
+                opponent.loseFightDamage(damage);
+                damageDealt += damage;
+            } else if (damage < 0) {
+                attacker.loseFightDamage(-damage);
+                damageTaken -= damage;
+            }
+
+            attacker.loseHealth(Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME);
+            opponent.loseHealth(Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME);
+            if (!opponent.isAlive()) {
+                killed++;
+            }
+        }
+        opponents.clear();
+
+        logger.info("{} fought {} adventurers, dealt {} and took {} damage, {} died",
+                attacker.getName(), fights, damageDealt, damageTaken, killed);
+
+        CombatBatchEvent event = new CombatBatchEvent();
+        if (event.shouldCommit()) {
+            event.attacker = attacker.getName();
+            event.room = attacker.getCurrentLocation().getName();
+            event.fights = fights;
+            event.damageDealt = damageDealt;
+            event.damageTaken = damageTaken;
+            event.opponentsKilled = killed;
+            event.commit();
+        }
+    }
+}
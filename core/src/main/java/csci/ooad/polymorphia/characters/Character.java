@@ -0,0 +1,193 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.FightOutcomeTable;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.jfr.DeathEvent;
+import csci.ooad.polymorphia.jfr.FightEvent;
+import csci.ooad.polymorphia.jfr.MoveEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+public abstract sealed class Character implements Comparable<Character> permits Adventurer, Creature {
+    private static final Logger logger = LoggerFactory.getLogger(Character.class);
+
+    static final double DEFAULT_INITIAL_HEALTH = 5.0;
+    public static final double HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME = 0.5;
+    public static final double HEALTH_LOST_IN_MOVING_ROOMS = 0.25;
+
+    protected String name;
+    private double health;
+    private final CharacterType type;
+
+    private Room currentLocation;
+
+    public Room getCurrentLocation() {
+        return currentLocation;
+    }
+
+    Character(String name, CharacterType type) {
+        this(name, DEFAULT_INITIAL_HEALTH, type);
+    }
+
+    Character(String name, double initialHealth, CharacterType type) {
+        this.name = name;
+        this.health = initialHealth;
+        this.type = type;
+    }
+
+    // Copies name and health, but not the location -- the copy is placed into a room separately
+    protected Character(Character original) {
+        this.name = original.name;
+        this.health = original.health;
+        this.type = original.type;
+    }
+
+    // Independent copy for a forked maze
+    public abstract Character copy();
+
+    @Override
+    public int compareTo(Character otherCharacter) {
+        return Double.compare(health, otherCharacter.health);
+    }
+
+    public void enterRoom(Room room) {
+        this.currentLocation = room;
+    }
+
+    public String toString() {
+        return getName() + "(health: " + getHealth() + ")";
+    }
+
+    @Deprecated
+    public void loseHealth(Double healthPoints) {
+        loseHealth(healthPoints.doubleValue());
+    }
+
+    public void loseHealth(double healthPoints) {
+        if (health <= 0) {
+            return;     // already dead, probably called for mandatory health loss for having a fight
+        }
+
+        if (currentLocation != null) {
+            currentLocation.healthChanging(this);
+        }
+        double previousHealth = health;
+        health -= healthPoints;
+        if (currentLocation != null) {
+            currentLocation.healthChanged(this, previousHealth);
+        }
+
+        if (health <= 0) {
+            logger.info("{} just died!", name);
+            recordDeath();
+            if (currentLocation != null) {
+                currentLocation.characterDied(this);
+            }
+        }
+    }
+
+    private void recordDeath() {
+        DeathEvent event = new DeathEvent();
+        if (event.shouldCommit()) {
+            event.character = name;
+            event.room = currentLocation == null ? null : currentLocation.getName();
+            event.commit();
+        }
+    }
+
+    public double getHealth() {
+        return health;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isAlive() {
+        return health > 0;
+    }
+
+    public void loseFightDamage(double fightDamage) {
+        loseHealth(fightDamage);
+    }
+
+    public final CharacterType getType() {
+        return type;
+    }
+
+    public final boolean isAdventurer() {
+        return type.isAdventurer();
+    }
+
+    public final boolean isCreature() {
+        return type.isCreature();
+    }
+
+    public void fight(Character opponent) {
+        FightEvent event = new FightEvent();
+        FightOutcomeTable outcomes = FightOutcomeTable.sixSided();
+        int outcome = outcomes.sampleOutcome();
+        int adventurerRoll = outcomes.attackerRoll(outcome);
+        int creatureRoll = outcomes.defenderRoll(outcome);
+        logger.info(getName() + " is fighting " + opponent);
+
+        logger.info(getName() + " rolled " + adventurerRoll);
+        logger.info(opponent + " rolled " + creatureRoll);
+
+        if (adventurerRoll > creatureRoll) {
+            opponent.loseFightDamage(adventurerRoll - creatureRoll);
+        } else if (creatureRoll > adventurerRoll) {
+            loseFightDamage(creatureRoll - adventurerRoll);
+        }
+
+        loseHealth(Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME);
+        opponent.loseHealth(Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME);
+
+        if (event.shouldCommit()) {
+            event.attacker = name;
+            event.defender = opponent.getName();
+            event.room = currentLocation == null ? null : currentLocation.getName();
+            event.attackerRoll = adventurerRoll;
+            event.defenderRoll = creatureRoll;
+            event.damage = Math.abs(adventurerRoll - creatureRoll);
+            event.attackerHealth = health;
+            event.defenderHealth = opponent.getHealth();
+            event.commit();
+        }
+    }
+
+    public abstract void doAction();
+
+    protected void move() {
+        Room nextLocation = getCurrentLocation().getRandomNeighbor();
+        if (nextLocation != null) {
+            if (logger.isInfoEnabled()) {
+                logger.info(getName() + " moved from " + getCurrentLocation().getName() + " to " + nextLocation.getName());
+            }
+            MoveEvent event = new MoveEvent();
+            if (event.shouldCommit()) {
+                event.character = name;
+                event.fromRoom = getCurrentLocation().getName();
+                event.toRoom = nextLocation.getName();
+                event.commit();
+            }
+            nextLocation.enter(this);
+            loseHealth(HEALTH_LOST_IN_MOVING_ROOMS);
+        } else {
+            logger.warn(getCurrentLocation().getName() + " has no neighbors!");
+        }
+    }
+
+    protected void gainHealth(double healthValue) {
+        if (currentLocation != null) {
+            currentLocation.healthChanging(this);
+        }
+        double previousHealth = health;
+        this.health += healthValue;
+        if (currentLocation != null) {
+            currentLocation.healthChanged(this, previousHealth);
+        }
+        logger.info(getName() + " gained health: " + healthValue);
+    }
+}
@@ -0,0 +1,33 @@
+package csci.ooad.polymorphia.characters;
+
+// Compact tag for every concrete kind of character. Tests on the tag are a field load and a
+// compare, where instanceof chains and virtual isX() calls go through the class hierarchy.
+public enum CharacterType {
+    ADVENTURER(true, Character.DEFAULT_INITIAL_HEALTH),
+    KNIGHT(true, Knight.KNIGHT_INITIAL_HEALTH),
+    COWARD(true, Coward.COWARD_INITIAL_HEALTH),
+    GLUTTON(true, Glutton.GLUTTON_INITIAL_HEALTH),
+    CREATURE(false, Creature.DEFAULT_INITIAL_HEALTH),
+    DEMON(false, Demon.DEMON_INITIAL_HEALTH);
+
+    private final boolean adventurer;
+    private final double initialHealth;
+
+    CharacterType(boolean adventurer, double initialHealth) {
+        this.adventurer = adventurer;
+        this.initialHealth = initialHealth;
+    }
+
+    // Health a character of this type starts with when none is given
+    public double getInitialHealth() {
+        return initialHealth;
+    }
+
+    public boolean isAdventurer() {
+        return adventurer;
+    }
+
+    public boolean isCreature() {
+        return !adventurer;
+    }
+}
@@ -0,0 +1,57 @@
+package csci.ooad.polymorphia.characters;
+
+public final class Coward extends Adventurer{
+
+    static final double COWARD_INITIAL_HEALTH = 5.0;
+    public static final double EXTRA_HEALTH_LOST_IN_FLEEING = 0.25;
+
+    public Coward(String name) {
+        super(name, COWARD_INITIAL_HEALTH, CharacterType.COWARD);
+    }
+
+    private Coward(Coward original) {
+        super(original);
+    }
+
+    @Override
+    public Coward copy() {
+        return new Coward(this);
+    }
+
+
+    // always runs from a creature, if it can (it can’t run from Demons)
+    // Coward doesn't eat if there is a non-demon creature present (before fleeing)
+    @Override
+    public Decision defaultDecision() {
+        if (shouldFight()) { // fights if demon in room
+            return Decision.FIGHT;
+        } else if (getCurrentLocation().hasLivingCreatures()) { // flees if non-demon creatures in room
+            return Decision.MOVE;
+        } else if (getCurrentLocation().hasFood()) {
+            return Decision.EAT;
+        }
+        return Decision.MOVE; // loses 0.25 health
+    }
+
+    // Moving away from creatures is fleeing, which costs more
+    @Override
+    public void carryOut(Decision decision) {
+        if (decision == Decision.MOVE && getCurrentLocation().hasLivingCreatures()) {
+            runAway(); // loses 0.5 health when fleeing
+        } else {
+            super.carryOut(decision);
+        }
+    }
+
+    private void runAway() {
+        move();
+        loseHealth(EXTRA_HEALTH_LOST_IN_FLEEING);  // Loses 0.25 points extra points (0.25+0.25=0.5) when fleeing
+    }
+
+    @Override
+    boolean shouldFight() {
+        // will only fight if there is a Demon in the room, otherwise runs
+        return demonInRoomWithMe();
+    }
+
+}
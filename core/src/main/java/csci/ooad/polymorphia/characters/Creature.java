@@ -0,0 +1,35 @@
+package csci.ooad.polymorphia.characters;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public sealed class Creature extends Character permits Demon {
+    private static final Logger logger = LoggerFactory.getLogger(Creature.class);
+    static final double DEFAULT_INITIAL_HEALTH = 3.0;
+
+    public Creature(String name) {
+        super(name, DEFAULT_INITIAL_HEALTH, CharacterType.CREATURE);
+    }
+
+    public Creature(String name, double health) {
+        super(name, health, CharacterType.CREATURE);
+    }
+
+    Creature(String name, double health, CharacterType type) {
+        super(name, health, type);
+    }
+
+    protected Creature(Creature original) {
+        super(original);
+    }
+
+    @Override
+    public Creature copy() {
+        return new Creature(this);
+    }
+
+    @Override
+    public void doAction() {
+        logger.info("Doing nothing for action for " + getName());
+    }
+}
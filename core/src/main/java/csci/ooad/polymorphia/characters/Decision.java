@@ -0,0 +1,9 @@
+package csci.ooad.polymorphia.characters;
+
+// What an adventurer can do with its turn. Whom it fights and where it moves follow the usual
+// rules: the healthiest Demon if there is one, otherwise a random creature; a random neighbor.
+public enum Decision {
+    FIGHT,
+    EAT,
+    MOVE
+}
@@ -0,0 +1,9 @@
+package csci.ooad.polymorphia.characters;
+
+// Makes an adventurer's choices in place of its built-in behavior; see Adventurer.setDecisionPolicy
+@FunctionalInterface
+public interface DecisionPolicy {
+
+    // Must be one of adventurer.legalDecisions()
+    Decision decide(Adventurer adventurer);
+}
@@ -0,0 +1,43 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.Room;
+
+public final class Demon extends Creature {
+    static final double DEMON_INITIAL_HEALTH = 15.0;
+
+    private final BatchCombat combat = new BatchCombat();
+
+    public Demon(String name) {
+        super(name, DEMON_INITIAL_HEALTH, CharacterType.DEMON);
+    }
+
+    public Demon(String name, double health) {
+        super(name, health, CharacterType.DEMON);
+    }
+
+    private Demon(Demon original) {
+        super(original);
+    }
+
+    @Override
+    public Demon copy() {
+        return new Demon(this);
+    }
+
+    // always fight an adventurer and an adventurer cannot run away from a demon.
+    // if there are multiple adventurers in the room, the Demon fights them all.
+
+    @Override
+    public void enterRoom(Room room) {
+        super.enterRoom(room);
+    }
+
+    private void fightAllAdventurers() {
+        combat.fightAllAdventurers(this);
+    }
+
+    @Override
+    public void doAction() {
+        fightAllAdventurers();
+    }
+}
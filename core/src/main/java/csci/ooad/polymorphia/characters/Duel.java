@@ -0,0 +1,201 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.Die;
+import csci.ooad.polymorphia.FightOutcomeTable;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Exact distribution of how a duel fought to the death ends, so a long war of attrition can be
+// resolved with one random draw instead of one Character.fight() per round.
+//
+// Health only ever drops in half points during a duel, so both sides are tracked as the number
+// of half points lost so far. A character with health h survives while it has lost fewer than
+// ceil(2h) of them, which means duels between the same "half points to live" share one table.
+public final class Duel {
+    static final int MAX_HALF_POINTS = 2048;
+    static final int CACHE_CAPACITY = 256;
+    // The most recently used tables; a game only ever meets a handful of health pairs at once
+    private static final Map<Key, Duel> CACHE = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Duel> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    private final int[] attackerLost;   // terminal states, in half points
+    private final int[] defenderLost;
+    private final double[] cumulative;
+    private final int attackerLives;
+    private final int defenderLives;
+
+    // Tables are compared by identity, so a custom table never shares a duel with the six-sided one
+    private record Key(int attackerLives, int defenderLives, FightOutcomeTable table) {
+    }
+
+    private Duel(int attackerLives, int defenderLives, FightOutcomeTable table) {
+        this.attackerLives = attackerLives;
+        this.defenderLives = defenderLives;
+
+        int maxDamage = 2 * table.maxDamage() + 1;
+        int width = defenderLives + maxDamage;
+        double[] terminal = new double[(attackerLives + maxDamage) * width];
+
+        // Every round costs each living side at least one half point, so walking the states
+        // by total half points lost visits each one after everything that leads to it
+        double[][] open = new double[attackerLives][defenderLives];
+        open[0][0] = 1.0;
+        for (int total = 0; total <= attackerLives + defenderLives - 2; total++) {
+            for (int a = Math.max(0, total - defenderLives + 1); a <= Math.min(total, attackerLives - 1); a++) {
+                int b = total - a;
+                double probability = open[a][b];
+                if (probability == 0.0) {
+                    continue;
+                }
+                for (int damage = -table.maxDamage(); damage <= table.maxDamage(); damage++) {
+                    double p = probability * table.probabilityOfDamage(damage);
+                    int nextA = afterRound(a, damage < 0 ? -damage : 0, attackerLives);
+                    int nextB = afterRound(b, damage > 0 ? damage : 0, defenderLives);
+                    if (nextA < attackerLives && nextB < defenderLives) {
+                        open[nextA][nextB] += p;
+                    } else {
+                        terminal[nextA * width + nextB] += p;
+                    }
+                }
+            }
+        }
+
+        int count = 0;
+        for (double p : terminal) {
+            if (p > 0) {
+                count++;
+            }
+        }
+        attackerLost = new int[count];
+        defenderLost = new int[count];
+        cumulative = new double[count];
+        double running = 0;
+        int index = 0;
+        for (int i = 0; i < terminal.length; i++) {
+            if (terminal[i] > 0) {
+                running += terminal[i];
+                attackerLost[index] = i / width;
+                defenderLost[index] = i % width;
+                cumulative[index] = running;
+                index++;
+            }
+        }
+    }
+
+    // Same order as Character.fight(): dice damage first, then the mandatory half point
+    // for whoever is still standing
+    private static int afterRound(int lost, int damage, int lives) {
+        lost += 2 * damage;
+        if (lost < lives) {
+            lost += 1;
+        }
+        return lost;
+    }
+
+    static int halfPointsToLive(double health) {
+        int halfPoints = (int) Math.ceil(health * 2);
+        if (halfPoints > MAX_HALF_POINTS) {
+            throw new IllegalArgumentException("health " + health + " is too large to fast-forward");
+        }
+        return halfPoints;
+    }
+
+    public static Duel between(double attackerHealth, double defenderHealth) {
+        return between(attackerHealth, defenderHealth, FightOutcomeTable.sixSided());
+    }
+
+    public static Duel between(double attackerHealth, double defenderHealth, FightOutcomeTable table) {
+        if (attackerHealth <= 0 || defenderHealth <= 0) {
+            throw new IllegalArgumentException("both sides of a duel must be alive");
+        }
+        Key key = new Key(halfPointsToLive(attackerHealth), halfPointsToLive(defenderHealth), table);
+        synchronized (CACHE) {
+            Duel cached = CACHE.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // Built outside the lock, so other threads keep using the cache meanwhile; if two threads
+        // build the same table, the first one stored wins
+        Duel duel = new Duel(key.attackerLives(), key.defenderLives(), table);
+        synchronized (CACHE) {
+            Duel cached = CACHE.putIfAbsent(key, duel);
+            return cached != null ? cached : duel;
+        }
+    }
+
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    // Fights until one side (or both) is dead, returns the survivor or null if both died
+    public static Character fastForward(Character attacker, Character defender) {
+        Duel duel = between(attacker.getHealth(), defender.getHealth());
+        int end = duel.sampleEnd();
+        attacker.loseHealth(duel.attackerLost[end] * 0.5);
+        defender.loseHealth(duel.defenderLost[end] * 0.5);
+
+        if (attacker.isAlive()) {
+            return attacker;
+        }
+        return defender.isAlive() ? defender : null;
+    }
+
+    private int sampleEnd() {
+        double draw = Die.randomFraction() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, draw);
+        index = index < 0 ? -index - 1 : index + 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+
+    public double attackerWinProbability() {
+        return probabilityWhere(true, false);
+    }
+
+    public double defenderWinProbability() {
+        return probabilityWhere(false, true);
+    }
+
+    public double bothDieProbability() {
+        return probabilityWhere(false, false);
+    }
+
+    private double probabilityWhere(boolean attackerAlive, boolean defenderAlive) {
+        double total = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            if ((attackerLost[i] < attackerLives) == attackerAlive && (defenderLost[i] < defenderLives) == defenderAlive) {
+                total += probabilityOf(i);
+            }
+        }
+        return total;
+    }
+
+    // Expected health each side loses before the duel is over
+    public double expectedAttackerHealthLost() {
+        return expectedLost(attackerLost);
+    }
+
+    public double expectedDefenderHealthLost() {
+        return expectedLost(defenderLost);
+    }
+
+    private double expectedLost(int[] lost) {
+        double expected = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            expected += probabilityOf(i) * lost[i] * 0.5;
+        }
+        return expected;
+    }
+
+    private double probabilityOf(int index) {
+        return cumulative[index] - (index == 0 ? 0 : cumulative[index - 1]);
+    }
+}
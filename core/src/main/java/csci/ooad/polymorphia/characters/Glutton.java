@@ -0,0 +1,47 @@
+package csci.ooad.polymorphia.characters;
+
+public final class Glutton extends Adventurer {
+
+    static final double GLUTTON_INITIAL_HEALTH = 3.0;
+
+    public Glutton(String name) {
+        super(name, GLUTTON_INITIAL_HEALTH, CharacterType.GLUTTON);
+    }
+
+    private Glutton(Glutton original) {
+        super(original);
+    }
+
+    @Override
+    public Glutton copy() {
+        return new Glutton(this);
+    }
+
+    // always eats while food is available unless a Demon is in the room, then it must fight
+    @Override
+    public Decision defaultDecision() {
+        if (shouldFight()) { // fights if Demon in room
+            return Decision.FIGHT;
+        } else if (getCurrentLocation().hasFood()) {
+            return Decision.EAT;
+        }
+        return Decision.MOVE;
+    }
+
+    // A Glutton never stops at one item
+    @Override
+    public void carryOut(Decision decision) {
+        super.carryOut(decision);
+        if (decision == Decision.EAT) {
+            while (getCurrentLocation().hasFood()) {
+                eatFood();
+            }
+        }
+    }
+
+    @Override
+    boolean shouldFight() {
+        // will only fight if there is a Demon in the room
+        return demonInRoomWithMe();
+    }
+}
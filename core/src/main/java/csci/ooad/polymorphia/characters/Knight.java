@@ -0,0 +1,26 @@
+package csci.ooad.polymorphia.characters;
+
+public final class Knight extends Adventurer{
+
+    // initial health score: 8
+    static final double KNIGHT_INITIAL_HEALTH = 8.0;
+
+    public Knight(String name) {
+        super(name, KNIGHT_INITIAL_HEALTH, CharacterType.KNIGHT);
+    }
+
+    private Knight(Knight original) {
+        super(original);
+    }
+
+    @Override
+    public Knight copy() {
+        return new Knight(this);
+    }
+
+    // always fights any Creature in the room (doesn't have to be healthiest Adventurer present in room)
+    @Override
+    boolean shouldFight() {
+        return creatureInRoomWithMe();
+    }
+}
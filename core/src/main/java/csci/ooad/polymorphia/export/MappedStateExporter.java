@@ -0,0 +1,138 @@
+package csci.ooad.polymorphia.export;
+
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.TurnListener;
+import csci.ooad.polymorphia.characters.Character;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Writes the maze state into a memory-mapped file after every turn (see StateLayout), so a
+// live viewer in another process can read occupancy, health and positions straight out of
+// shared memory instead of tailing and parsing the text log.
+public class MappedStateExporter implements TurnListener, AutoCloseable {
+    private final Maze maze;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int roomCount;
+    private final int characterCapacity;
+    private final int charactersStart;
+
+    // Only needed for hand-built rooms; rooms of a topology know their index
+    private final Map<Room, Integer> roomIndexes = new IdentityHashMap<>();
+    // Ids of the living characters; ids are never handed out twice, so dead ones are dropped
+    private final Map<Character, Integer> characterIds = new IdentityHashMap<>();
+    private int nextCharacterId = 0;
+    private final List<Character> living = new ArrayList<>();
+    private long sequence = 0;
+
+    public MappedStateExporter(Path file, Maze maze) {
+        this(file, maze, maze.getLivingCharacters().size());
+    }
+
+    public MappedStateExporter(Path file, Maze maze, int characterCapacity) {
+        this.maze = maze;
+        this.roomCount = maze.size();
+        this.characterCapacity = characterCapacity;
+        this.charactersStart = StateLayout.charactersStart(roomCount);
+
+        List<Room> rooms = maze.getRooms();
+        for (int i = 0; i < rooms.size(); i++) {
+            if (rooms.get(i).getId() != i) {
+                roomIndexes.put(rooms.get(i), i);
+            }
+        }
+
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, StateLayout.fileSize(roomCount, characterCapacity));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map " + file, e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, StateLayout.MAGIC);
+        buffer.putInt(4, StateLayout.VERSION);
+        buffer.putInt(StateLayout.ROOM_COUNT, roomCount);
+        buffer.putInt(StateLayout.CHARACTER_CAPACITY, characterCapacity);
+    }
+
+    // Writes the game's current state now and then again after every turn
+    public static MappedStateExporter attach(Path file, Polymorphia game) {
+        MappedStateExporter exporter = new MappedStateExporter(file, game.getMaze());
+        exporter.export(game.getTurnCount());
+        game.addTurnListener(exporter);
+        return exporter;
+    }
+
+    @Override
+    public void turnEnded(Polymorphia game) {
+        export(game.getTurnCount());
+    }
+
+    public void export(int turn) {
+        // Odd sequence tells readers a snapshot is being written
+        StateLayout.LONGS.setVolatile(buffer, StateLayout.SEQUENCE, ++sequence);
+        VarHandle.storeStoreFence();
+
+        buffer.putInt(StateLayout.TURN, turn);
+        List<Room> rooms = maze.getRooms();
+        living.clear();
+        characterIds.keySet().removeIf(character -> !character.isAlive());
+        for (int i = 0; i < roomCount; i++) {
+            Room room = rooms.get(i);
+            int offset = StateLayout.roomOffset(i);
+            buffer.putInt(offset, room.countLivingAdventurers());
+            buffer.putInt(offset + 4, room.countLivingCreatures());
+            buffer.putInt(offset + 8, room.countFoodItems());
+            room.collectLivingCharacters(living);
+        }
+
+        int exported = Math.min(living.size(), characterCapacity);
+        for (int i = 0; i < exported; i++) {
+            Character character = living.get(i);
+            int offset = charactersStart + i * StateLayout.CHARACTER_BYTES;
+            buffer.putInt(offset, characterIds.computeIfAbsent(character, c -> nextCharacterId++));
+            buffer.putInt(offset + 4, roomIndexOf(character.getCurrentLocation()));
+            buffer.putInt(offset + 8, character.getType().ordinal());
+            buffer.putDouble(offset + 16, character.getHealth());
+        }
+        buffer.putInt(StateLayout.CHARACTER_COUNT, exported);
+        buffer.putInt(StateLayout.TRUNCATED, exported < living.size() ? 1 : 0);
+
+        // Even again: everything written above is visible before the new sequence is
+        StateLayout.LONGS.setRelease(buffer, StateLayout.SEQUENCE, ++sequence);
+    }
+
+    private int roomIndexOf(Room room) {
+        Integer index = roomIndexes.get(room);
+        return index != null ? index : room.getId();
+    }
+
+    // The id a character has in the exported records, or -1 if it was never exported or has died
+    public int getCharacterId(Character character) {
+        return characterIds.getOrDefault(character, -1);
+    }
+
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package csci.ooad.polymorphia.export;
+
+import csci.ooad.polymorphia.characters.CharacterType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Reading side of MappedStateExporter, for viewers on the JVM. Other languages can map the
+// same file and follow the layout documented in StateLayout.
+public class MappedStateReader implements AutoCloseable {
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int roomCount;
+    private final int characterCapacity;
+
+    public MappedStateReader(Path file) {
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map " + file, e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != StateLayout.MAGIC || buffer.getInt(4) != StateLayout.VERSION) {
+            throw new IllegalArgumentException(file + " is not a Polymorphia state file");
+        }
+        roomCount = buffer.getInt(StateLayout.ROOM_COUNT);
+        characterCapacity = buffer.getInt(StateLayout.CHARACTER_CAPACITY);
+    }
+
+    public long sequence() {
+        return (long) StateLayout.LONGS.getAcquire(buffer, StateLayout.SEQUENCE);
+    }
+
+    // A consistent snapshot; spins while the writer is in the middle of a turn
+    public Snapshot read() {
+        int charactersStart = StateLayout.charactersStart(roomCount);
+        while (true) {
+            long before = sequence();
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            int turn = buffer.getInt(StateLayout.TURN);
+            int[] adventurers = new int[roomCount];
+            int[] creatures = new int[roomCount];
+            int[] food = new int[roomCount];
+            for (int i = 0; i < roomCount; i++) {
+                int offset = StateLayout.roomOffset(i);
+                adventurers[i] = buffer.getInt(offset);
+                creatures[i] = buffer.getInt(offset + 4);
+                food[i] = buffer.getInt(offset + 8);
+            }
+            int count = Math.min(buffer.getInt(StateLayout.CHARACTER_COUNT), characterCapacity);
+            int[] ids = new int[count];
+            int[] rooms = new int[count];
+            CharacterType[] types = new CharacterType[count];
+            double[] health = new double[count];
+            boolean consistent = true;
+            for (int i = 0; i < count && consistent; i++) {
+                int offset = charactersStart + i * StateLayout.CHARACTER_BYTES;
+                ids[i] = buffer.getInt(offset);
+                rooms[i] = buffer.getInt(offset + 4);
+                int type = buffer.getInt(offset + 8);
+                // A torn read can show garbage; the sequence check below throws it away
+                consistent = type >= 0 && type < CharacterType.values().length;
+                types[i] = consistent ? CharacterType.values()[type] : null;
+                health[i] = buffer.getDouble(offset + 16);
+            }
+            boolean truncated = buffer.getInt(StateLayout.TRUNCATED) != 0;
+
+            VarHandle.loadLoadFence();
+            if (consistent && sequence() == before) {
+                return new Snapshot(before, turn, adventurers, creatures, food, ids, rooms, types, health, truncated);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Parallel arrays: rooms by room index, characters by record position
+    public record Snapshot(long sequence, int turn, int[] adventurersInRoom, int[] creaturesInRoom,
+                           int[] foodInRoom, int[] characterIds, int[] characterRooms,
+                           CharacterType[] characterTypes, double[] characterHealth, boolean truncated) {
+
+        public int characterCount() {
+            return characterIds.length;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package csci.ooad.polymorphia.export;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+// Binary layout of the shared state file, all little-endian:
+//
+//   header (64 bytes)
+//     0  int    magic "PMST"
+//     4  int    version
+//     8  long   sequence, odd while a snapshot is being written
+//    16  int    turn
+//    20  int    room count
+//    24  int    character capacity
+//    28  int    characters in this snapshot
+//    32  int    1 if living characters did not all fit, else 0
+//   rooms, ROOM_BYTES each, in maze order
+//     0  int    living adventurers
+//     4  int    living creatures
+//     8  int    food items
+//   characters, CHARACTER_BYTES each, 8-byte aligned
+//     0  int    character id, stable for the whole game
+//     4  int    room index
+//     8  int    CharacterType ordinal
+//    12  int    unused
+//    16  double health
+//
+// A reader copies the sequence, reads what it needs and checks the sequence again; if it
+// changed or was odd, a turn was written meanwhile and the read is retried.
+final class StateLayout {
+    static final int MAGIC = 0x54534D50;
+    static final int VERSION = 1;
+
+    static final int SEQUENCE = 8;
+    static final int TURN = 16;
+    static final int ROOM_COUNT = 20;
+    static final int CHARACTER_CAPACITY = 24;
+    static final int CHARACTER_COUNT = 28;
+    static final int TRUNCATED = 32;
+    static final int HEADER_BYTES = 64;
+
+    static final int ROOM_BYTES = 12;
+    static final int CHARACTER_BYTES = 24;
+
+    // Ordered access to the sequence word of the mapped buffer
+    static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private StateLayout() {
+    }
+
+    static int roomOffset(int room) {
+        return HEADER_BYTES + room * ROOM_BYTES;
+    }
+
+    static int charactersStart(int roomCount) {
+        int end = roomOffset(roomCount);
+        return (end + 7) & ~7;
+    }
+
+    static long fileSize(int roomCount, int characterCapacity) {
+        return charactersStart(roomCount) + (long) characterCapacity * CHARACTER_BYTES;
+    }
+}
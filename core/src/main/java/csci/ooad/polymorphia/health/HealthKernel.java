@@ -0,0 +1,45 @@
+package csci.ooad.polymorphia.health;
+
+import csci.ooad.polymorphia.characters.Character;
+
+// Health bookkeeping for many characters at once, over a plain array of their health values.
+// Follows Character.loseHealth(): the dead (health <= 0) are left alone, and whoever drops to
+// zero or below is reported as newly dead. Unlike a Character, health in the array is clamped
+// at zero, so dead entries all read 0.0.
+//
+// A standalone library for callers that keep their population as arrays: Character, Maze and
+// AggregateGame keep their own health and do not go through it.
+public interface HealthKernel {
+
+    // Everybody alive in health[0, count) loses the same amount, e.g. the cost of moving rooms.
+    // Indexes of the newly dead go to newlyDead, which must have room for count of them.
+    int loseHealth(double[] health, int count, double healthPoints, int[] newlyDead);
+
+    // health[i] loses losses[i]
+    int loseHealth(double[] health, double[] losses, int count, int[] newlyDead);
+
+    default int loseHealthForMoving(double[] health, int count, int[] newlyDead) {
+        return loseHealth(health, count, Character.HEALTH_LOST_IN_MOVING_ROOMS, newlyDead);
+    }
+
+    // What every fighter pays whether they win or lose; the loser's extra damage goes through losses
+    default int loseHealthForFighting(double[] health, int count, int[] newlyDead) {
+        return loseHealth(health, count, Character.HEALTH_LOST_IN_FIGHT_REGARDLESS_OF_OUTCOME, newlyDead);
+    }
+
+    String name();
+
+    // The Vector API kernel when the JVM runs with --add-modules jdk.incubator.vector,
+    // unless -Dpolymorphia.vectorHealth=false asks for the scalar one
+    static HealthKernel best() {
+        boolean vectorAvailable = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        if (vectorAvailable && Boolean.parseBoolean(System.getProperty("polymorphia.vectorHealth", "true"))) {
+            return VectorHealthKernel.INSTANCE;
+        }
+        return scalar();
+    }
+
+    static HealthKernel scalar() {
+        return ScalarHealthKernel.INSTANCE;
+    }
+}
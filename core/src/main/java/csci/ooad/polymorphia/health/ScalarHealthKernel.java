@@ -0,0 +1,53 @@
+package csci.ooad.polymorphia.health;
+
+// One character at a time; also finishes the tail the vector kernel's lanes do not cover
+final class ScalarHealthKernel implements HealthKernel {
+    static final ScalarHealthKernel INSTANCE = new ScalarHealthKernel();
+
+    private ScalarHealthKernel() {
+    }
+
+    @Override
+    public int loseHealth(double[] health, int count, double healthPoints, int[] newlyDead) {
+        return loseHealth(health, 0, count, healthPoints, newlyDead, 0);
+    }
+
+    @Override
+    public int loseHealth(double[] health, double[] losses, int count, int[] newlyDead) {
+        return loseHealth(health, losses, 0, count, newlyDead, 0);
+    }
+
+    static int loseHealth(double[] health, int from, int to, double healthPoints, int[] newlyDead, int dead) {
+        for (int i = from; i < to; i++) {
+            dead = lose(health, i, healthPoints, newlyDead, dead);
+        }
+        return dead;
+    }
+
+    static int loseHealth(double[] health, double[] losses, int from, int to, int[] newlyDead, int dead) {
+        for (int i = from; i < to; i++) {
+            dead = lose(health, i, losses[i], newlyDead, dead);
+        }
+        return dead;
+    }
+
+    private static int lose(double[] health, int i, double healthPoints, int[] newlyDead, int dead) {
+        double before = health[i];
+        if (before <= 0) {
+            return dead;
+        }
+        double after = before - healthPoints;
+        if (after <= 0) {
+            health[i] = 0.0;
+            newlyDead[dead++] = i;
+        } else {
+            health[i] = after;
+        }
+        return dead;
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+}
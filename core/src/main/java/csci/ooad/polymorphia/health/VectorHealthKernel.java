@@ -0,0 +1,62 @@
+package csci.ooad.polymorphia.health;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// As many characters per instruction as the CPU has double lanes. The alive test, the
+// subtraction, the clamp and the death test are all lane masks, so there are no branches
+// per character; only a chunk in which somebody died walks its mask bits to report them.
+final class VectorHealthKernel implements HealthKernel {
+    static final VectorHealthKernel INSTANCE = new VectorHealthKernel();
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorHealthKernel() {
+    }
+
+    @Override
+    public int loseHealth(double[] health, int count, double healthPoints, int[] newlyDead) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int dead = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            DoubleVector before = DoubleVector.fromArray(SPECIES, health, i);
+            VectorMask<Double> alive = before.compare(VectorOperators.GT, 0.0);
+            DoubleVector after = before.sub(healthPoints, alive);
+            dead = store(after, alive, zero, health, i, newlyDead, dead);
+        }
+        return ScalarHealthKernel.loseHealth(health, i, count, healthPoints, newlyDead, dead);
+    }
+
+    @Override
+    public int loseHealth(double[] health, double[] losses, int count, int[] newlyDead) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int dead = 0;
+        int i = 0;
+        for (int bound = SPECIES.loopBound(count); i < bound; i += SPECIES.length()) {
+            DoubleVector before = DoubleVector.fromArray(SPECIES, health, i);
+            VectorMask<Double> alive = before.compare(VectorOperators.GT, 0.0);
+            DoubleVector after = before.sub(DoubleVector.fromArray(SPECIES, losses, i), alive);
+            dead = store(after, alive, zero, health, i, newlyDead, dead);
+        }
+        return ScalarHealthKernel.loseHealth(health, losses, i, count, newlyDead, dead);
+    }
+
+    private static int store(DoubleVector after, VectorMask<Double> alive, DoubleVector zero,
+                             double[] health, int offset, int[] newlyDead, int dead) {
+        VectorMask<Double> died = alive.and(after.compare(VectorOperators.LE, 0.0));
+        after.blend(zero, died).intoArray(health, offset);
+        if (died.anyTrue()) {
+            for (long lanes = died.toLong(); lanes != 0; lanes &= lanes - 1) {
+                newlyDead[dead++] = offset + Long.numberOfTrailingZeros(lanes);
+            }
+        }
+        return dead;
+    }
+
+    @Override
+    public String name() {
+        return "vector " + SPECIES.length() + "x64";
+    }
+}
@@ -0,0 +1,34 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Replaces the per-fight events when a Demon takes on a whole room at once
+@Name("csci.ooad.polymorphia.CombatBatch")
+@Label("Combat Batch")
+@Category("Polymorphia")
+@Description("All fights of one character against every opponent in its room")
+public class CombatBatchEvent extends Event {
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Room")
+    public String room;
+
+    @Label("Fights")
+    public int fights;
+
+    @Label("Damage Dealt")
+    @Description("Damage from the rolls dealt to the opponents")
+    public int damageDealt;
+
+    @Label("Damage Taken")
+    @Description("Damage from the rolls taken by the attacker")
+    public int damageTaken;
+
+    @Label("Opponents Killed")
+    public int opponentsKilled;
+}
@@ -0,0 +1,17 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("csci.ooad.polymorphia.Death")
+@Label("Death")
+@Category("Polymorphia")
+public class DeathEvent extends Event {
+    @Label("Character")
+    public String character;
+
+    @Label("Room")
+    public String room;
+}
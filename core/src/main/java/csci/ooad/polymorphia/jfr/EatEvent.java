@@ -0,0 +1,20 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("csci.ooad.polymorphia.Eat")
+@Label("Eat")
+@Category("Polymorphia")
+public class EatEvent extends Event {
+    @Label("Character")
+    public String character;
+
+    @Label("Food")
+    public String food;
+
+    @Label("Health Gained")
+    public int healthGained;
+}
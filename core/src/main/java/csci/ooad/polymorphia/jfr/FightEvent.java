@@ -0,0 +1,37 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("csci.ooad.polymorphia.Fight")
+@Label("Fight")
+@Category("Polymorphia")
+public class FightEvent extends Event {
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Defender")
+    public String defender;
+
+    @Label("Room")
+    public String room;
+
+    @Label("Attacker Roll")
+    public int attackerRoll;
+
+    @Label("Defender Roll")
+    public int defenderRoll;
+
+    @Label("Damage")
+    @Description("Damage from the rolls, not counting the mandatory loss for fighting")
+    public int damage;
+
+    @Label("Attacker Health After")
+    public double attackerHealth;
+
+    @Label("Defender Health After")
+    public double defenderHealth;
+}
@@ -0,0 +1,20 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("csci.ooad.polymorphia.Move")
+@Label("Move")
+@Category("Polymorphia")
+public class MoveEvent extends Event {
+    @Label("Character")
+    public String character;
+
+    @Label("From Room")
+    public String fromRoom;
+
+    @Label("To Room")
+    public String toRoom;
+}
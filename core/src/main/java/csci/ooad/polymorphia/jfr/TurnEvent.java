@@ -0,0 +1,24 @@
+package csci.ooad.polymorphia.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Spans one Polymorphia.playTurn() so slow turns line up with GC pauses in the recording
+@Name("csci.ooad.polymorphia.Turn")
+@Label("Turn")
+@Category("Polymorphia")
+@Description("One turn of the game, from the first to the last character action")
+public class TurnEvent extends Event {
+    @Label("Turn Number")
+    public int turn;
+
+    @Label("Living Characters")
+    @Description("Characters scheduled to act at the start of the turn (all living ones unless active-set scheduling skips passive creatures)")
+    public int livingCharacters;
+
+    @Label("Actions")
+    public int actions;
+}
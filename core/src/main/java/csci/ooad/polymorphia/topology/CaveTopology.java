@@ -0,0 +1,89 @@
+package csci.ooad.polymorphia.topology;
+
+import java.util.SplittableRandom;
+
+// Cave-like grid maze generated one cell at a time with the binary-tree algorithm:
+// every cell carves a passage either up or to the left, which already connects the
+// whole grid. Each passage that was not carved is then opened anyway with the given
+// openness, turning long corridors into loops and open caverns.
+public class CaveTopology implements TopologySource {
+    private final int rows;
+    private final int cols;
+    private final double openness;
+    private final long seed;
+
+    public CaveTopology(int rows, int cols, double openness, long seed) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("rows and cols must be positive");
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many rooms");
+        }
+        if (openness < 0 || openness > 1) {
+            throw new IllegalArgumentException("openness must be between 0 and 1");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.openness = openness;
+        this.seed = seed;
+    }
+
+    @Override
+    public int roomCount() {
+        return rows * cols;
+    }
+
+    @Override
+    public EdgeCursor openEdges() {
+        return new EdgeCursor() {
+            final SplittableRandom random = new SplittableRandom(seed);
+            int cell = 0;
+            // At most two edges per cell, the second one may not fit into the current chunk
+            long pending = -1;
+
+            @Override
+            public int nextChunk(long[] buffer) {
+                int count = 0;
+                if (pending >= 0 && count < buffer.length) {
+                    buffer[count++] = pending;
+                    pending = -1;
+                }
+                while (count < buffer.length && cell < roomCount()) {
+                    int row = cell / cols;
+                    int col = cell % cols;
+                    boolean canGoUp = row > 0;
+                    boolean canGoLeft = col > 0;
+                    long up = canGoUp ? TopologySource.edge(cell, cell - cols) : -1;
+                    long left = canGoLeft ? TopologySource.edge(cell, cell - 1) : -1;
+
+                    long carved;
+                    long other;
+                    if (canGoUp && canGoLeft) {
+                        boolean carveUp = random.nextBoolean();
+                        carved = carveUp ? up : left;
+                        other = carveUp ? left : up;
+                    } else {
+                        carved = canGoUp ? up : left;
+                        other = -1;
+                    }
+                    if (other >= 0 && random.nextDouble() >= openness) {
+                        other = -1;
+                    }
+
+                    if (carved >= 0) {
+                        buffer[count++] = carved;
+                    }
+                    if (other >= 0) {
+                        if (count < buffer.length) {
+                            buffer[count++] = other;
+                        } else {
+                            pending = other;
+                        }
+                    }
+                    cell++;
+                }
+                return count;
+            }
+        };
+    }
+}
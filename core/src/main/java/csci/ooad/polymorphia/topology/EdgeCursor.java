@@ -0,0 +1,11 @@
+package csci.ooad.polymorphia.topology;
+
+public interface EdgeCursor extends AutoCloseable {
+
+    // Fills the buffer with up to buffer.length edges; returns how many, 0 once all edges were read
+    int nextChunk(long[] buffer);
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,105 @@
+package csci.ooad.polymorphia.topology;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Binary edge list on disk: a magic number, the room count, then one (from, to) int pair per edge.
+// Lets a generated topology be reused, or one produced elsewhere be fed in, without holding it in memory.
+public class EdgeListFile implements TopologySource {
+    static final int MAGIC = 0x504D5A45;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int EDGE_BYTES = 2 * Integer.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path path;
+    private final int roomCount;
+
+    private EdgeListFile(Path path, int roomCount) {
+        this.path = path;
+        this.roomCount = roomCount;
+    }
+
+    public static EdgeListFile open(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not an edge list file");
+            }
+            int roomCount = in.readInt();
+            long edgeBytes = Files.size(path) - HEADER_BYTES;
+            if (edgeBytes % EDGE_BYTES != 0) {
+                throw new IOException(path + " is truncated: " + edgeBytes % EDGE_BYTES
+                        + " bytes after the last whole edge");
+            }
+            return new EdgeListFile(path, roomCount);
+        }
+    }
+
+    public static EdgeListFile write(TopologySource source, Path path) throws IOException {
+        long[] chunk = new long[BUFFER_SIZE / Long.BYTES];
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+             EdgeCursor edges = source.openEdges()) {
+            out.writeInt(MAGIC);
+            out.writeInt(source.roomCount());
+            int count;
+            while ((count = edges.nextChunk(chunk)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    out.writeInt(TopologySource.from(chunk[i]));
+                    out.writeInt(TopologySource.to(chunk[i]));
+                }
+            }
+        }
+        return new EdgeListFile(path, source.roomCount());
+    }
+
+    @Override
+    public int roomCount() {
+        return roomCount;
+    }
+
+    @Override
+    public EdgeCursor openEdges() {
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            in.skipNBytes(HEADER_BYTES);
+            return new EdgeCursor() {
+                @Override
+                public int nextChunk(long[] buffer) {
+                    int count = 0;
+                    try {
+                        while (count < buffer.length) {
+                            // Only a clean end before an edge ends the edges; running out of data
+                            // anywhere after its first byte means the file was truncated
+                            int first = in.read();
+                            if (first < 0) {
+                                break;
+                            }
+                            int from = first << 24 | in.readUnsignedByte() << 16
+                                    | in.readUnsignedByte() << 8 | in.readUnsignedByte();
+                            buffer[count++] = TopologySource.edge(from, in.readInt());
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return count;
+                }
+
+                @Override
+                public void close() {
+                    try {
+                        in.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package csci.ooad.polymorphia.topology;
+
+import java.util.SplittableRandom;
+
+// A random connected graph: a random spanning tree (room i links to some earlier room)
+// plus random extra edges up to the requested average degree. The seed makes every
+// pass over the edges identical. Extra edges are not de-duplicated, which is rare
+// enough to ignore in sparse graphs.
+public class RandomSparseTopology implements TopologySource {
+    private final int rooms;
+    private final long edgeCount;
+    private final long seed;
+
+    public RandomSparseTopology(int rooms, double averageDegree, long seed) {
+        if (rooms <= 0) {
+            throw new IllegalArgumentException("rooms must be positive");
+        }
+        if (averageDegree < 0) {
+            throw new IllegalArgumentException("averageDegree must not be negative");
+        }
+        this.rooms = rooms;
+        this.edgeCount = Math.max(rooms - 1L, Math.round(rooms * averageDegree / 2));
+        this.seed = seed;
+    }
+
+    @Override
+    public int roomCount() {
+        return rooms;
+    }
+
+    public long edgeCount() {
+        return rooms == 1 ? 0 : edgeCount;
+    }
+
+    @Override
+    public EdgeCursor openEdges() {
+        return new EdgeCursor() {
+            final SplittableRandom random = new SplittableRandom(seed);
+            long emitted = 0;
+
+            @Override
+            public int nextChunk(long[] buffer) {
+                int count = 0;
+                while (count < buffer.length && emitted < edgeCount()) {
+                    buffer[count++] = emitted < rooms - 1 ? treeEdge((int) emitted + 1) : extraEdge();
+                    emitted++;
+                }
+                return count;
+            }
+
+            private long treeEdge(int room) {
+                return TopologySource.edge(room, random.nextInt(room));
+            }
+
+            private long extraEdge() {
+                int from = random.nextInt(rooms);
+                int to = random.nextInt(rooms - 1);
+                if (to >= from) {
+                    to++;       // skip self-loops without a retry loop
+                }
+                return TopologySource.edge(from, to);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package csci.ooad.polymorphia.topology;
+
+// A maze shape that is produced edge by edge instead of being held in memory.
+// Rooms are numbered 0..roomCount()-1 and every undirected edge is listed once.
+public interface TopologySource {
+
+    int roomCount();
+
+    // Every call starts over at the first edge, so a source can be read more than once
+    EdgeCursor openEdges();
+
+    // Edges travel as a single long so chunks are plain long[] buffers
+    static long edge(int from, int to) {
+        return ((long) from << 32) | (to & 0xFFFFFFFFL);
+    }
+
+    static int from(long edge) {
+        return (int) (edge >>> 32);
+    }
+
+    static int to(long edge) {
+        return (int) edge;
+    }
+}
@@ -0,0 +1,59 @@
+package csci.ooad.polymorphia.topology;
+
+// A grid whose edges wrap around, so every room has the same number of neighbors
+public class TorusTopology implements TopologySource {
+    private final int rows;
+    private final int cols;
+
+    public TorusTopology(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("rows and cols must be positive");
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many rooms");
+        }
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    @Override
+    public int roomCount() {
+        return rows * cols;
+    }
+
+    @Override
+    public EdgeCursor openEdges() {
+        return new EdgeCursor() {
+            int cell = 0;
+            boolean rightDone = false;
+
+            @Override
+            public int nextChunk(long[] buffer) {
+                int count = 0;
+                while (count < buffer.length && cell < roomCount()) {
+                    int row = cell / cols;
+                    int col = cell % cols;
+                    if (!rightDone) {
+                        rightDone = true;
+                        if (wraps(col, cols)) {
+                            buffer[count++] = TopologySource.edge(cell, row * cols + (col + 1) % cols);
+                        }
+                    } else {
+                        rightDone = false;
+                        cell++;
+                        if (wraps(row, rows)) {
+                            buffer[count++] = TopologySource.edge(row * cols + col, ((row + 1) % rows) * cols + col);
+                        }
+                    }
+                }
+                return count;
+            }
+        };
+    }
+
+    // With only one or two rooms along an axis the wrap-around edge would be a
+    // self-loop or a duplicate of the plain edge
+    private static boolean wraps(int position, int length) {
+        return length > 2 || (length == 2 && position == 0);
+    }
+}
@@ -0,0 +1,126 @@
+package csci.ooad.polymorphia.world;
+
+import java.util.function.Consumer;
+
+// Timers bucketed by their deadline tick modulo the wheel size. Scheduling and cancelling are
+// O(1), and advancing one tick only visits the timers that hash to that tick's slot, so the
+// cost does not grow with how many events are pending further out.
+public class HashedTimingWheel<T> {
+    private final Timeout<T>[] slots;
+    private final int mask;
+    private long currentTick = 0;
+    private int pending = 0;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public HashedTimingWheel(int slotCount) {
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("slotCount must be positive");
+        }
+        // A power of two lets the slot be picked with a mask instead of a division
+        int size = Integer.highestOneBit(slotCount);
+        if (size < slotCount) {
+            size <<= 1;
+        }
+        this.slots = new Timeout[size];
+        this.mask = size - 1;
+    }
+
+    public Timeout<T> schedule(long delayTicks, T task) {
+        if (delayTicks <= 0) {
+            throw new IllegalArgumentException("delayTicks must be positive");
+        }
+        Timeout<T> timeout = new Timeout<>(this, currentTick + delayTicks, task);
+        int slot = (int) (timeout.deadline & mask);
+        timeout.next = slots[slot];
+        if (timeout.next != null) {
+            timeout.next.previous = timeout;
+        }
+        slots[slot] = timeout;
+        pending++;
+        return timeout;
+    }
+
+    // Moves to the next tick and hands every task due on it to the consumer. Tasks may schedule
+    // new timers while they run; those land in later ticks.
+    public int advance(Consumer<? super T> fire) {
+        currentTick++;
+        int slot = (int) (currentTick & mask);
+        int fired = 0;
+        // Detach everything due first, so tasks can cancel or schedule timers freely while firing
+        Timeout<T> due = null;
+        Timeout<T> timeout = slots[slot];
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            // Timers a whole number of rotations away share the slot and stay put
+            if (timeout.deadline == currentTick) {
+                unlink(timeout, slot);
+                timeout.next = due;
+                due = timeout;
+            }
+            timeout = next;
+        }
+        // The slot lists newest first, so the detached chain fires in scheduling order
+        while (due != null) {
+            Timeout<T> next = due.next;
+            due.next = null;
+            fire.accept(due.task);
+            fired++;
+            due = next;
+        }
+        return fired;
+    }
+
+    private void unlink(Timeout<T> timeout, int slot) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            slots[slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.wheel = null;
+        pending--;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public int getPendingCount() {
+        return pending;
+    }
+
+    public static final class Timeout<T> {
+        private HashedTimingWheel<T> wheel;
+        private final long deadline;
+        private final T task;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> wheel, long deadline, T task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isPending() {
+            return wheel != null;
+        }
+
+        // Returns false if the task already fired or was cancelled before
+        public boolean cancel() {
+            if (wheel == null) {
+                return false;
+            }
+            wheel.unlink(this, (int) (deadline & wheel.mask));
+            return true;
+        }
+    }
+}
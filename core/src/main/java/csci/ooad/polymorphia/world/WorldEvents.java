@@ -0,0 +1,113 @@
+package csci.ooad.polymorphia.world;
+
+import csci.ooad.polymorphia.Die;
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.RoomObserver;
+import csci.ooad.polymorphia.TurnListener;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.factories.CharacterFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+// Scheduled changes to the world between turns, so long-running games are replenished instead
+// of only draining: eaten food grows back in its room, creature waves spawn, Demons arrive.
+// Everything is a timer on a hashed timing wheel ticked once per turn, so nothing scans the
+// rooms to decide what happens next.
+public class WorldEvents implements TurnListener {
+    private static final Logger logger = LoggerFactory.getLogger(WorldEvents.class);
+    static final int DEFAULT_WHEEL_SLOTS = 64;
+
+    private final Maze maze;
+    private final HashedTimingWheel<Runnable> wheel;
+    private final CharacterFactory characterFactory = new CharacterFactory();
+    private int foodRegrowthTurns = 0;
+
+    public WorldEvents(Maze maze) {
+        this(maze, DEFAULT_WHEEL_SLOTS);
+    }
+
+    // Events further out than the wheel size still work, they just share slots with nearer ones
+    public WorldEvents(Maze maze, int wheelSlots) {
+        this.maze = maze;
+        this.wheel = new HashedTimingWheel<>(wheelSlots);
+        maze.addRoomObserver(new RoomObserver() {
+            @Override
+            public void foodEaten(Room room, Food food) {
+                if (foodRegrowthTurns > 0) {
+                    schedule(foodRegrowthTurns, () -> room.add(food));
+                }
+            }
+        });
+    }
+
+    // Every food item eaten reappears in the same room this many turns later
+    public WorldEvents withFoodRegrowth(int turns) {
+        if (turns <= 0) {
+            throw new IllegalArgumentException("turns must be positive");
+        }
+        this.foodRegrowthTurns = turns;
+        return this;
+    }
+
+    public WorldEvents withSpawnWaves(int everyTurns, int creaturesPerWave) {
+        if (creaturesPerWave <= 0) {
+            throw new IllegalArgumentException("creaturesPerWave must be positive");
+        }
+        return repeat(everyTurns, () -> {
+            List<Character> wave = characterFactory.createCreatures(creaturesPerWave, false);
+            wave.forEach(this::placeInRandomRoom);
+            logger.info("A wave of {} creatures spawned", wave.size());
+        });
+    }
+
+    public WorldEvents withDemonArrivals(int everyTurns) {
+        return repeat(everyTurns, () -> {
+            Room room = placeInRandomRoom(characterFactory.createDemon());
+            logger.info("A Demon arrived in {}", room.getName());
+        });
+    }
+
+    private WorldEvents repeat(int everyTurns, Runnable event) {
+        if (everyTurns <= 0) {
+            throw new IllegalArgumentException("everyTurns must be positive");
+        }
+        schedule(everyTurns, new Runnable() {
+            @Override
+            public void run() {
+                event.run();
+                schedule(everyTurns, this);
+            }
+        });
+        return this;
+    }
+
+    public HashedTimingWheel.Timeout<Runnable> schedule(int turnsFromNow, Runnable event) {
+        return wheel.schedule(turnsFromNow, event);
+    }
+
+    private Room placeInRandomRoom(Character character) {
+        List<Room> rooms = maze.getRooms();
+        Room room = rooms.get(Die.randomLessThan(rooms.size()));
+        room.add(character);
+        return room;
+    }
+
+    @Override
+    public void turnEnded(Polymorphia game) {
+        advance();
+    }
+
+    // One tick per turn; for driving the events from something other than a Polymorphia
+    public int advance() {
+        return wheel.advance(Runnable::run);
+    }
+
+    public int getPendingCount() {
+        return wheel.getPendingCount();
+    }
+}
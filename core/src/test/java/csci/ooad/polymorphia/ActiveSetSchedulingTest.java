@@ -0,0 +1,113 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveSetSchedulingTest {
+
+    private static int actionsInOneTurn(Polymorphia game) {
+        game.startTurn();
+        int actions = 1;
+        while (game.playNextAction()) {
+            actions++;
+        }
+        return actions;
+    }
+
+    private static Polymorphia crowdedGame() {
+        // Room 1 is the lair, Room 2 the hall next to it
+        Maze.MazeBuilder builder = Maze.newBuilder().createNbyMGrid(1, 2);
+        for (int i = 0; i < 50; i++) {
+            builder.placeObjectIntoRoom(new Creature("Ogre " + i), "Room 1");
+        }
+        return new Polymorphia(builder
+                .placeObjectIntoRoom(new Demon("Satan"), "Room 1")
+                .placeObjectIntoRoom(new Food("Bread"), "Room 2")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 2")
+                .placeObjectIntoRoom(new Adventurer("Bill"), "Room 2")
+                .build());
+    }
+
+    @Test
+    void testPassiveCreaturesAreNotScheduled() {
+        Polymorphia game = crowdedGame();
+
+        // Bill eats alone in the hall; nobody in the lair can do anything
+        assertEquals(1, actionsInOneTurn(game));
+    }
+
+    @Test
+    void testEveryoneIsScheduledWithoutActiveSets() {
+        Polymorphia game = crowdedGame();
+        game.setActiveSetScheduling(false);
+
+        assertEquals(52, actionsInOneTurn(game));
+    }
+
+    @Test
+    void testActiveCharactersOfAMaze() {
+        Polymorphia game = crowdedGame();
+        Room lair = game.getMaze().getRooms().getFirst();
+
+        assertEquals(1, game.getMaze().getActiveCharacters().size());
+        lair.add(new Knight("Galahad"));
+        // The knight, and the Demon now sharing a room with him
+        assertEquals(3, game.getMaze().getActiveCharacters().size());
+    }
+
+    @Test
+    void testCharactersKilledEarlierInTheTurnNeverAct() {
+        for (int trial = 0; trial < 50; trial++) {
+            int[] decisions = {0};
+            Maze.MazeBuilder builder = Maze.newBuilder()
+                    .createNbyMGrid(1, 2)
+                    .placeObjectIntoRoom(new Demon("Satan"), "Room 1");
+            for (int i = 0; i < 20; i++) {
+                Adventurer frail = new Adventurer("Frail " + i, 0.1);
+                frail.setDecisionPolicy(adventurer -> {
+                    assertTrue(adventurer.isAlive(), adventurer.getName() + " acted after dying");
+                    decisions[0]++;
+                    return adventurer.defaultDecision();
+                });
+                builder.placeObjectIntoRoom(frail, "Room 1");
+            }
+            Polymorphia game = new Polymorphia(builder.build());
+
+            game.playTurn();
+
+            // Everybody who acts before the Demon dies fighting it or moving; the Demon kills the rest
+            assertTrue(decisions[0] <= 20);
+            assertTrue(game.getMaze().getLivingAdventurers().isEmpty());
+        }
+    }
+
+    // A knight walks into a parked Demon's room. In a full shuffle of the two, the Demon acts after
+    // the knight half of the time, and only then does it fight him in the same turn.
+    @Test
+    void testWokenDemonKeepsItsChanceToActThisTurn() {
+        int trials = 2000;
+        int demonActed = 0;
+        for (int i = 0; i < trials; i++) {
+            Knight knight = new Knight("Galahad");
+            Maze maze = Maze.newBuilder()
+                    .createNbyMGrid(1, 2)
+                    .placeObjectIntoRoom(knight, "Room 1")
+                    .placeObjectIntoRoom(new Demon("Satan"), "Room 2")
+                    .build();
+            Polymorphia game = new Polymorphia(maze);
+
+            game.playTurn();
+
+            assertSame(maze.getRoom("Room 2"), knight.getCurrentLocation());
+            if (knight.getHealth() < 7.75) {
+                demonActed++;
+            }
+        }
+        assertEquals(0.5, (double) demonActed / trials, 0.05);
+    }
+}
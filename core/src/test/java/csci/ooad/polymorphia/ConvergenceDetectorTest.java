@@ -0,0 +1,115 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Coward;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Decision;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.characters.Glutton;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConvergenceDetectorTest {
+
+    private Maze twoRoomMaze(Object... objects) {
+        Room first = new Room("first");
+        Room second = new Room("second");
+        first.connect(second);
+        Maze.MazeBuilder builder = Maze.newBuilder().addRoom(first);
+        for (Object object : objects) {
+            builder.placeObjectIntoRoom(object, first);
+        }
+        return builder.build();
+    }
+
+    @Test
+    void testCowardAgainstCreatureIsDecided() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Coward("Tim"), new Creature("Ogre")));
+
+        assertEquals(GameOutcome.CREATURES_WIN, new CertainOutcomeDetector().detect(game));
+    }
+
+    @Test
+    void testDecisionPoliciesCannotMakeTimidAdventurersFightCreatures() {
+        Coward coward = new Coward("Tim");
+        Glutton glutton = new Glutton("Homer");
+        Creature ogre = new Creature("Ogre");
+        Polymorphia game = new Polymorphia(twoRoomMaze(coward, glutton, ogre));
+        for (Adventurer adventurer : new Adventurer[]{coward, glutton}) {
+            adventurer.setDecisionPolicy(self -> Decision.FIGHT);
+            assertFalse(adventurer.legalDecisions().contains(Decision.FIGHT));
+            assertThrows(IllegalArgumentException.class, adventurer::doAction);
+        }
+
+        // Whatever a policy picks, the Ogre is never hurt, so the prediction still holds
+        assertEquals(ogre.getHealth(), new Creature("Ogre").getHealth());
+        assertEquals(GameOutcome.CREATURES_WIN, new CertainOutcomeDetector().detect(game));
+    }
+
+    @Test
+    void testCowardAgainstDemonIsNotDecided() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Coward("Tim"), new Demon("Satan")));
+
+        assertNull(new CertainOutcomeDetector().detect(game));
+    }
+
+    @Test
+    void testWeakAdventurerAgainstDemonIsDecided() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Adventurer("Bill", 1.0), new Demon("Satan")));
+
+        // At most three fights dealing 5.5 each can't take down 15 health
+        assertEquals(GameOutcome.CREATURES_WIN, new CertainOutcomeDetector().detect(game));
+    }
+
+    @Test
+    void testKnightAgainstCreatureIsNotDecided() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Knight("Galahad"), new Creature("Ogre")));
+
+        assertNull(new CertainOutcomeDetector().detect(game));
+    }
+
+    @Test
+    void testPlayStopsEarlyWithPrediction() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Coward("Tim"), new Creature("Ogre")),
+                new CertainOutcomeDetector());
+
+        game.play();
+
+        assertTrue(game.wasStoppedEarly());
+        assertFalse(game.isOver());
+        assertEquals(0, game.getTurnCount());
+        assertEquals(GameOutcome.CREATURES_WIN, game.getOutcome());
+    }
+
+    @Test
+    void testNoProgressDetectorNeedsQuietTurns() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Coward("Tim"), new Creature("Ogre")));
+        NoProgressDetector detector = new NoProgressDetector(2);
+
+        assertNull(detector.detect(game));
+        assertNull(detector.detect(game));
+        assertEquals(GameOutcome.STALEMATE, detector.detect(game));
+    }
+
+    @Test
+    void testAnyOfReturnsFirstDecision() {
+        ConvergenceDetector detector = ConvergenceDetector.anyOf(
+                ConvergenceDetector.never(),
+                game -> GameOutcome.NO_WINNER);
+
+        assertEquals(GameOutcome.NO_WINNER, detector.detect(null));
+    }
+
+    @Test
+    void testOutcomeWithoutDetector() {
+        Polymorphia game = new Polymorphia(twoRoomMaze(new Knight("Galahad"), new Creature("Ogre")));
+
+        assertNull(game.getOutcome());
+        game.play();
+
+        assertFalse(game.wasStoppedEarly());
+        assertNotNull(game.getOutcome());
+    }
+}
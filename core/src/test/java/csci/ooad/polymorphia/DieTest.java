@@ -0,0 +1,58 @@
+package csci.ooad.polymorphia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DieTest {
+
+    @Test
+    void testRandomValues() {
+        Map<Integer, Integer> values = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.merge(Die.rollSixSided(), 1, Integer::sum);
+        }
+        System.out.println(values);
+        assertFalse(values.containsKey(0));
+        assertFalse(values.containsKey(7));
+        assertEquals(6, values.keySet().size());
+        for (Integer key : values.keySet()) {
+            assertTrue(values.get(key) > 0);
+        }
+    }
+
+    @Test
+    void testSeededStreamReplaysAGame() {
+        Polymorphia first = Die.withStream(new Random(11), DieTest::playStandardGame);
+        Polymorphia second = Die.withStream(new Random(11), DieTest::playStandardGame);
+
+        assertEquals(first.getTurnCount(), second.getTurnCount());
+        assertEquals(first.getOutcome(), second.getOutcome());
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    void testAntitheticStreamMirrorsTheRolls() {
+        Random original = new Random(3);
+        Random mirror = new AntitheticRandom(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(5 - original.nextInt(6), mirror.nextInt(6));
+            assertEquals(1.0 - original.nextDouble(), mirror.nextDouble(), 1e-12);
+        }
+    }
+
+    private static Polymorphia playStandardGame() {
+        Polymorphia game = new Polymorphia(Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .createAndAddAdventurers(2, 2, 2, 2)
+                .createAndAddCreatures(5, true)
+                .createAndAddFoodItems(8)
+                .build());
+        game.play();
+        return game;
+    }
+}
@@ -0,0 +1,110 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiscreteEventGameTest {
+
+    private static Maze evenlyMatchedMaze() {
+        return Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .createAndAddAdventurers(2, 1, 1, 0)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(6)
+                .build();
+    }
+
+    @Test
+    void testGameEndsWithAWinner() {
+        DiscreteEventGame game = new DiscreteEventGame(evenlyMatchedMaze());
+        game.play();
+
+        assertTrue(game.isOver());
+        assertNotNull(game.getOutcome());
+        assertTrue(game.getTurnCount() > 0);
+        assertTrue(game.getEventsProcessed() > 0);
+    }
+
+    @Test
+    void testQuietRoomsCostNoEvents() {
+        // Room 1 holds a sleeping crowd; only the adventurer in Room 3 has anything to do
+        Maze.MazeBuilder builder = Maze.newBuilder().createNbyMGrid(1, 3);
+        for (int i = 0; i < 50; i++) {
+            builder.placeObjectIntoRoom(new Creature("Ogre " + i), "Room 1");
+        }
+        Maze maze = builder
+                .placeObjectIntoRoom(new Demon("Satan"), "Room 1")
+                .placeObjectIntoRoom(new Adventurer("Bill"), "Room 3")
+                .build();
+
+        DiscreteEventGame game = new DiscreteEventGame(maze);
+        game.play();
+
+        assertEquals(GameOutcome.CREATURES_WIN, game.getOutcome());
+        assertTrue(game.getEventsProcessed() < 10L * game.getTurnCount(),
+                "Only Bill and the Demon should ever get events");
+    }
+
+    @Test
+    void testWokenDemonNeverActsTwiceInOneTurn() {
+        // Whatever the order: Bill, the Demon and Frodo act at most once each in the first turn
+        for (long seed = 0; seed < 300; seed++) {
+            long events = Die.withStream(new Random(seed), () -> {
+                // Frodo dies in his first fight, then Bill walks into the Demon's room
+                Maze maze = Maze.newBuilder()
+                        .createNbyMGrid(1, 2)
+                        .placeObjectIntoRoom(new Demon("Satan"), "Room 1")
+                        .placeObjectIntoRoom(new Adventurer("Frodo", 0.1), "Room 1")
+                        .placeObjectIntoRoom(new Adventurer("Bill", 20.0), "Room 2")
+                        .build();
+                DiscreteEventGame game = new DiscreteEventGame(maze);
+                game.playTurn();
+                return game.getEventsProcessed();
+            });
+            assertTrue(events <= 3, "seed " + seed + " played " + events + " actions in the first turn");
+        }
+    }
+
+    @Test
+    void testStatisticallyEquivalentToTurnLoop() {
+        int games = 400;
+        int eventWins = 0;
+        int turnLoopWins = 0;
+        long eventTurns = 0;
+        long turnLoopTurns = 0;
+        // Seeded, so the comparison is the same on every run; the reference is the original turn
+        // loop that schedules every living character, not the active-set approximation
+        for (int i = 0; i < games; i++) {
+            DiscreteEventGame eventGame = Die.withStream(new Random(2L * i), () -> {
+                DiscreteEventGame game = new DiscreteEventGame(evenlyMatchedMaze());
+                game.play();
+                return game;
+            });
+            eventTurns += eventGame.getTurnCount();
+            if (eventGame.getOutcome() == GameOutcome.ADVENTURERS_WIN) {
+                eventWins++;
+            }
+
+            Polymorphia turnLoopGame = Die.withStream(new Random(2L * i + 1), () -> {
+                Polymorphia game = new Polymorphia(evenlyMatchedMaze());
+                game.setActiveSetScheduling(false);
+                game.play();
+                return game;
+            });
+            turnLoopTurns += turnLoopGame.getTurnCount();
+            if (turnLoopGame.getOutcome() == GameOutcome.ADVENTURERS_WIN) {
+                turnLoopWins++;
+            }
+        }
+
+        // Two proportions of 400 games differ by less than 0.1 well beyond 99% of the time
+        assertEquals(turnLoopWins / (double) games, eventWins / (double) games, 0.1);
+        assertEquals(turnLoopTurns / (double) games, eventTurns / (double) games, 0.2 * turnLoopTurns / games);
+    }
+}
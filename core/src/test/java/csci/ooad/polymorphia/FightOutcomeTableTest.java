@@ -0,0 +1,51 @@
+package csci.ooad.polymorphia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FightOutcomeTableTest {
+
+    @Test
+    void testSixSidedDistribution() {
+        FightOutcomeTable table = FightOutcomeTable.sixSided();
+
+        assertEquals(36, table.outcomeCount());
+        assertEquals(6.0 / 36, table.probabilityOfDamage(0), 1e-12);
+        assertEquals(1.0 / 36, table.probabilityOfDamage(5), 1e-12);
+        assertEquals(1.0 / 36, table.probabilityOfDamage(-5), 1e-12);
+        assertEquals(0.0, table.probabilityOfDamage(6));
+
+        double total = 0;
+        for (int damage = -5; damage <= 5; damage++) {
+            total += table.probabilityOfDamage(damage);
+        }
+        assertEquals(1.0, total, 1e-12);
+    }
+
+    @Test
+    void testOutcomesCoverEveryPairOfRolls() {
+        FightOutcomeTable table = FightOutcomeTable.forSides(4);
+        Set<String> pairs = new HashSet<>();
+
+        for (int outcome = 0; outcome < table.outcomeCount(); outcome++) {
+            int attackerRoll = table.attackerRoll(outcome);
+            int defenderRoll = table.defenderRoll(outcome);
+            assertTrue(attackerRoll >= 1 && attackerRoll <= 4);
+            assertTrue(defenderRoll >= 1 && defenderRoll <= 4);
+            assertEquals(attackerRoll - defenderRoll, table.damage(outcome));
+            pairs.add(attackerRoll + "-" + defenderRoll);
+        }
+
+        assertEquals(16, pairs.size());
+    }
+
+    @Test
+    void testTablesAreShared() {
+        assertSame(FightOutcomeTable.sixSided(), FightOutcomeTable.forSides(6));
+        assertThrows(IllegalArgumentException.class, () -> FightOutcomeTable.forSides(0));
+    }
+}
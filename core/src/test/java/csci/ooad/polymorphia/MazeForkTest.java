@@ -0,0 +1,177 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeForkTest {
+
+    private Maze buildMaze() {
+        return Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .distributeSequentially()
+                .createAndAddAdventurers(1, 1, 1, 1)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(9)
+                .build();
+    }
+
+    @Test
+    void testForkLooksLikeTheOriginal() {
+        Maze original = buildMaze();
+
+        Maze fork = original.fork();
+
+        assertEquals(original.size(), fork.size());
+        assertEquals(original.toString(), fork.toString());
+        for (int i = 0; i < original.size(); i++) {
+            Room originalRoom = original.getRooms().get(i);
+            Room forkedRoom = fork.getRooms().get(i);
+            assertNotSame(originalRoom, forkedRoom);
+            assertEquals(originalRoom.getNeighbors().size(), forkedRoom.getNeighbors().size());
+            forkedRoom.getNeighbors().forEach(neighbor -> assertTrue(fork.getRooms().contains(neighbor)));
+        }
+    }
+
+    @Test
+    void testForkedCharactersAreIndependent() {
+        Maze original = buildMaze();
+        Maze fork = original.fork();
+        List<Character> originalCharacters = original.getLivingCharacters();
+
+        for (Character character : fork.getLivingCharacters()) {
+            character.loseHealth(100.0);
+        }
+
+        assertTrue(fork.getLivingCharacters().isEmpty());
+        assertEquals(originalCharacters, original.getLivingCharacters());
+        originalCharacters.forEach(character -> assertTrue(character.isAlive()));
+    }
+
+    @Test
+    void testFoodIsCopiedOnlyByTheSideThatEats() {
+        Room pantry = new Room("Pantry");
+        pantry.add(new Food("Cookie"));
+        pantry.add(new Food("Cake"));
+        Maze original = Maze.newBuilder().addRoom(pantry).build();
+        Maze fork = original.fork();
+        Room forkedPantry = fork.getRooms().getFirst();
+
+        forkedPantry.eatFoodItem();
+
+        assertEquals(2, pantry.getTotalFoodHealthValue());
+        assertEquals(1, forkedPantry.getTotalFoodHealthValue());
+
+        pantry.eatFoodItem();
+        pantry.eatFoodItem();
+        assertFalse(pantry.hasFood());
+        assertTrue(forkedPantry.hasFood());
+    }
+
+    @Test
+    void testForkedGamePlaysOnWithoutTouchingTheOriginal() {
+        Maze original = buildMaze();
+        String before = original.toString();
+        Polymorphia game = new Polymorphia(original);
+
+        Polymorphia branch = game.fork();
+        branch.play();
+
+        assertTrue(branch.isOver());
+        assertEquals(before, original.toString());
+        assertFalse(game.isOver());
+    }
+
+    @Test
+    void testForkCopiesOnlyTheRoomsItTouches() {
+        Maze original = buildMaze();
+        Adventurer adventurer = original.getLivingAdventurers().getFirst();
+        Room home = adventurer.getCurrentLocation();
+        double health = adventurer.getHealth();
+
+        Maze fork = original.fork();
+        assertTrue(fork.getRooms().stream().allMatch(Room::sharesCharacters));
+
+        // The original plays on after the fork; the fork still sees the state it was forked from
+        adventurer.loseHealth(1.0);
+        home.add(new Creature("Latecomer"));
+        Character copy = fork.getForkedCounterpart(original, adventurer);
+
+        assertEquals(health, copy.getHealth());
+        assertNotSame(adventurer, copy);
+        assertFalse(copy.getCurrentLocation().sharesCharacters());
+        assertEquals(1, fork.getRooms().stream().filter(room -> !room.sharesCharacters()).count());
+        assertFalse(copy.getCurrentLocation().toString().contains("Latecomer"));
+        assertTrue(home.toString().contains("Latecomer"));
+    }
+
+    @Test
+    void testForkOfAForkReadsTheSameSnapshot() {
+        Maze original = buildMaze();
+        String before = original.toString();
+        Maze fork = original.fork();
+        Maze forkOfFork = fork.fork();
+
+        original.getLivingCharacters().forEach(character -> character.loseHealth(100.0));
+        fork.getLivingCharacters().forEach(character -> character.loseHealth(100.0));
+
+        assertEquals(before, forkOfFork.toString());
+        assertTrue(original.getLivingCharacters().isEmpty());
+        assertFalse(forkOfFork.getLivingCharacters().isEmpty());
+    }
+
+    @Test
+    void testCounterpartOfACharacter() {
+        Room hall = new Room("Hall");
+        Room yard = new Room("Yard");
+        hall.connect(yard);
+        Knight knight = new Knight("Galahad");
+        Maze original = Maze.newBuilder()
+                .addRoom(hall)
+                .placeObjectIntoRoom(new Creature("Ogre"), hall)
+                .placeObjectIntoRoom(knight, hall)
+                .build();
+
+        Maze fork = original.fork();
+        Character copy = fork.getForkedCounterpart(original, knight);
+
+        assertInstanceOf(Knight.class, copy);
+        assertNotSame(knight, copy);
+        assertEquals(knight.getName(), copy.getName());
+        assertEquals("Hall", copy.getCurrentLocation().getName());
+        assertNotSame(hall, copy.getCurrentLocation());
+        assertThrows(IllegalArgumentException.class,
+                () -> fork.getForkedCounterpart(original, new Adventurer("Stranger")));
+    }
+
+    @Test
+    void testSlotFindsTheCopyInEveryFork() {
+        Maze original = buildMaze();
+        Adventurer adventurer = original.getLivingAdventurers().getLast();
+        Maze.Slot slot = original.slotOf(adventurer);
+        Maze fork = original.fork();
+
+        assertSame(fork.getForkedCounterpart(original, adventurer), fork.getCharacter(slot));
+        Character copy = fork.fork().getCharacter(slot);
+        assertEquals(adventurer.getName(), copy.getName());
+        assertNotSame(adventurer, copy);
+        assertThrows(IllegalArgumentException.class, () -> original.slotOf(new Adventurer("Stranger")));
+    }
+
+    @Test
+    void testForksShareTheTopology() {
+        Maze original = buildMaze();
+        Maze fork = original.fork();
+        Maze forkOfFork = fork.fork();
+
+        assertEquals(original.toString(), forkOfFork.toString());
+        assertThrows(IllegalArgumentException.class,
+                () -> buildMaze().fork().getForkedCounterpart(original, original.getLivingCharacters().getFirst()));
+    }
+}
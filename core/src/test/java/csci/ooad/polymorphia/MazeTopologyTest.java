@@ -0,0 +1,140 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.topology.TorusTopology;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeTopologyTest {
+
+    @Test
+    void testGridNeighbors() {
+        MazeTopology grid = MazeTopology.grid(2, 3);
+
+        assertEquals(6, grid.roomCount());
+        assertEquals(2, grid.degree(0));
+        assertEquals(3, grid.degree(1));
+        // above, below, left, right
+        assertEquals(4, grid.neighbor(1, 0));
+        assertEquals(0, grid.neighbor(1, 1));
+        assertEquals(2, grid.neighbor(1, 2));
+        assertEquals("Room 5", grid.roomName(4));
+    }
+
+    @Test
+    void testGridsAreNotKeptAfterUse() {
+        // Nothing holds on to a grid but the mazes built from it
+        assertNotSame(MazeTopology.grid(4, 7), MazeTopology.grid(4, 7));
+        assertEquals(28, MazeTopology.grid(4, 7).roomCount());
+        assertThrows(IllegalArgumentException.class, () -> MazeTopology.grid(0, 3));
+    }
+
+    @Test
+    void testDoorsCanStillBeAddedToGridRooms() {
+        MazeTopology grid = MazeTopology.grid(3, 3);
+        Maze maze = Maze.newBuilder().useTopology(grid).build();
+        Maze other = Maze.newBuilder().useTopology(grid).build();
+        Room corner = maze.getRoom("Room 1");
+        Room farCorner = maze.getRoom("Room 9");
+
+        corner.connect(farCorner);
+
+        assertTrue(corner.getNeighbors().contains(farCorner));
+        assertTrue(farCorner.getNeighbors().contains(corner));
+        assertEquals(2, grid.degree(0));
+        assertEquals(2, other.getRoom("Room 1").getNeighbors().size());
+
+        // A fork has the same door between its own copies of the rooms
+        Maze fork = maze.fork();
+        assertTrue(fork.getRoom("Room 1").getNeighbors().contains(fork.getRoom("Room 9")));
+        assertFalse(fork.getRoom("Room 1").getNeighbors().contains(farCorner));
+
+        corner.addNeighbor(new Room("Outside"));
+        assertThrows(IllegalStateException.class, maze::fork);
+    }
+
+    @Test
+    void testMazesShareTheTopologyButNotTheRooms() {
+        MazeTopology grid = MazeTopology.grid(3, 3);
+        Maze first = Maze.newBuilder().useTopology(grid).createAndAddAdventurers(2).build();
+        Maze second = Maze.newBuilder().useTopology(grid).build();
+
+        assertSame(grid, first.getTopology());
+        assertSame(grid, second.getTopology());
+        assertEquals(2, first.getLivingAdventurers().size());
+        assertTrue(second.getLivingAdventurers().isEmpty());
+        for (int i = 0; i < grid.roomCount(); i++) {
+            Room room = second.getRooms().get(i);
+            assertEquals(grid.degree(i), room.getNeighbors().size());
+            room.getNeighbors().forEach(neighbor -> assertTrue(second.getRooms().contains(neighbor)));
+        }
+    }
+
+    @Test
+    void testStreamedTopologyMatchesItsEdges() {
+        MazeTopology torus = MazeTopology.from(new TorusTopology(4, 5));
+
+        assertEquals(20, torus.roomCount());
+        for (int room = 0; room < torus.roomCount(); room++) {
+            assertEquals(4, torus.degree(room));
+            for (int i = 0; i < torus.degree(room); i++) {
+                int neighbor = torus.neighbor(room, i);
+                boolean linkedBack = false;
+                for (int j = 0; j < torus.degree(neighbor); j++) {
+                    linkedBack |= torus.neighbor(neighbor, j) == room;
+                }
+                assertTrue(linkedBack);
+            }
+        }
+    }
+
+    @Test
+    void testHandBuiltRoomsKeepTheirNames() {
+        Room hall = new Room("Hall");
+        Room yard = new Room("Yard");
+        hall.connect(yard);
+
+        MazeTopology custom = MazeTopology.of(List.of(hall));
+        Maze copy = Maze.newBuilder().useTopology(custom).build();
+
+        assertEquals(2, custom.roomCount());
+        assertEquals("Hall", copy.getRooms().get(0).getName());
+        assertEquals("Yard", copy.getRooms().get(1).getName());
+        assertSame(copy.getRooms().get(1), copy.getRooms().get(0).getNeighbors().getFirst());
+    }
+
+    @Test
+    void testRoomsAreFoundByName() {
+        MazeTopology grid = MazeTopology.grid(3, 4);
+        MazeTopology custom = MazeTopology.of(List.of(new Room("Hall").connect(new Room("Yard"))));
+
+        assertEquals(0, grid.indexOf("Room 1"));
+        assertEquals(11, grid.indexOf("Room 12"));
+        assertEquals(-1, grid.indexOf("Room 13"));
+        assertEquals(-1, grid.indexOf("Room 012"));
+        assertEquals(-1, grid.indexOf("Room 99999999999"));
+        assertEquals(-1, grid.indexOf("Hall"));
+        assertEquals(1, custom.indexOf("Yard"));
+        assertEquals(-1, custom.indexOf("Room 1"));
+    }
+
+    @Test
+    void testRoomNamesAreDerivedFromIds() {
+        Maze maze = Maze.newBuilder().createNFullyConnectedRooms(3).build();
+        Room last = maze.getRooms().getLast();
+
+        assertEquals(2, last.getId());
+        assertEquals("Room 3", last.getName());
+        assertEquals("\tRoom 3:\n\t\t", last.toString());
+        assertEquals(-1, new Room("Hall").getId());
+    }
+
+    @Test
+    void testSharedRoomsCannotBeRewired() {
+        Maze.MazeBuilder builder = Maze.newBuilder().createNbyMGrid(2, 2);
+
+        assertThrows(IllegalStateException.class, () -> builder.addRoom(new Room("Extra")));
+    }
+}
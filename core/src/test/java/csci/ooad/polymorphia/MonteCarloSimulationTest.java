@@ -0,0 +1,57 @@
+package csci.ooad.polymorphia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloSimulationTest {
+
+    @Test
+    void testZForConfidence() {
+        assertEquals(1.96, Statistics.zForConfidence(0.95), 0.001);
+        assertEquals(2.576, Statistics.zForConfidence(0.99), 0.001);
+    }
+
+    @Test
+    void testWilsonBounds() {
+        double lower = Statistics.wilsonLowerBound(90, 100, 1.96);
+        double upper = Statistics.wilsonUpperBound(90, 100, 1.96);
+
+        assertTrue(lower < 0.9 && 0.9 < upper);
+        assertEquals(0.0, Statistics.wilsonLowerBound(0, 0, 1.96));
+    }
+
+    @Test
+    void testLeaderIsCertain() {
+        Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+        outcomes.put(GameOutcome.CREATURES_WIN, 5);
+        outcomes.put(GameOutcome.ADVENTURERS_WIN, 5);
+        assertFalse(MonteCarloSimulation.leaderIsCertain(outcomes, 10, 1.96));
+
+        outcomes.put(GameOutcome.CREATURES_WIN, 30);
+        outcomes.put(GameOutcome.ADVENTURERS_WIN, 0);
+        assertTrue(MonteCarloSimulation.leaderIsCertain(outcomes, 30, 1.96));
+    }
+
+    @Test
+    void testStopsEarlyForOneSidedGames() {
+        MonteCarloSimulation simulation = new MonteCarloSimulation(() -> Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .distributeSequentially()
+                .createAndAddAdventurers(0, 1, 0, 0)
+                .createAndAddCreatures(2, false)
+                .build())
+                .withConvergenceDetector(CertainOutcomeDetector::new)
+                .withGameLimits(10, 500);
+
+        MonteCarloSimulation.Result result = simulation.run();
+
+        assertTrue(result.stoppedEarly());
+        assertTrue(result.gamesPlayed() < 500);
+        assertEquals(GameOutcome.CREATURES_WIN, result.getLeader());
+        assertEquals(1.0, result.getWinRate(GameOutcome.CREATURES_WIN));
+    }
+}
@@ -0,0 +1,37 @@
+package csci.ooad.polymorphia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSelectionTest {
+
+    @Test
+    void testPickFromEmptyCollection() {
+        assertNull(RandomSelection.pick(List.of()));
+        assertNull(RandomSelection.pickMatching(List.of(1, 3, 5), number -> number % 2 == 0));
+    }
+
+    @Test
+    void testReservoirSampleOnlyReturnsMatches() {
+        Set<Integer> numbers = new LinkedHashSet<>(List.of(1, 2, 3, 4, 5, 6));
+        Set<Integer> picked = new LinkedHashSet<>();
+
+        for (int i = 0; i < 300; i++) {
+            picked.add(RandomSelection.reservoirSample(numbers, number -> number % 2 == 0));
+        }
+
+        assertEquals(Set.of(2, 4, 6), picked);
+    }
+
+    @Test
+    void testPickUsesReservoirForUnindexedCollections() {
+        Set<String> names = new LinkedHashSet<>(List.of("Bilbo", "Frodo"));
+
+        assertTrue(names.contains(RandomSelection.pick(names)));
+    }
+}
@@ -0,0 +1,100 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RealTimeGameLoopTest {
+
+    private Polymorphia newGame() {
+        return new Polymorphia(Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .distributeSequentially()
+                .createAndAddAdventurers(1, 1, 1, 1)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(4)
+                .build());
+    }
+
+    @Test
+    void testTurnCanBePlayedOneActionAtATime() {
+        Room room = new Room("Arena");
+        Polymorphia game = new Polymorphia(Maze.newBuilder()
+                .addRoom(room)
+                .placeObjectIntoRoom(new Knight("Galahad"), room)
+                .placeObjectIntoRoom(new Creature("Ogre"), room)
+                .build());
+
+        game.startTurn();
+        assertTrue(game.isTurnInProgress());
+        assertThrows(IllegalStateException.class, game::startTurn);
+        assertThrows(IllegalStateException.class, game::fork);
+
+        int actions = 1;
+        while (game.playNextAction()) {
+            actions++;
+        }
+        assertFalse(game.isTurnInProgress());
+        assertFalse(game.playNextAction());
+        assertTrue(actions >= 1 && actions <= 2);
+        assertEquals(1, game.getTurnCount());
+    }
+
+    @Test
+    void testGameRunsToTheEndAtTheTickRate() {
+        Polymorphia game = newGame();
+        AtomicInteger renders = new AtomicInteger();
+
+        RealTimeGameLoop.Metrics metrics = new RealTimeGameLoop(game)
+                .withTicksPerSecond(500)
+                .withRenderer(rendered -> renders.incrementAndGet())
+                .run();
+
+        assertTrue(game.isOver());
+        assertFalse(game.isTurnInProgress());
+        assertEquals(game.getTurnCount(), metrics.turns());
+        assertTrue(metrics.ticks() >= metrics.turns());
+        assertEquals(metrics.ticks() - metrics.skippedRenders(), renders.get());
+        assertTrue(metrics.maxLatency().compareTo(metrics.meanLatency()) >= 0);
+    }
+
+    @Test
+    void testOverloadedTicksSpreadTurnsAndSkipRendering() {
+        Polymorphia game = newGame();
+        AtomicInteger renders = new AtomicInteger();
+
+        RealTimeGameLoop.Metrics metrics = new RealTimeGameLoop(game)
+                .withTicksPerSecond(1000)
+                .withTickBudget(Duration.ofNanos(1))
+                .withRenderer(rendered -> renders.incrementAndGet())
+                .run();
+
+        assertTrue(game.isOver());
+        assertEquals(0, renders.get());
+        assertEquals(metrics.ticks(), metrics.skippedRenders());
+        assertEquals(metrics.ticks(), metrics.overBudgetTicks());
+        // Eight characters start the game, and only one of them acts per tick
+        assertTrue(metrics.splitTurns() >= 1);
+        assertTrue(metrics.ticks() > metrics.turns());
+    }
+
+    @Test
+    void testStopEndsTheLoop() {
+        RealTimeGameLoop loop = new RealTimeGameLoop(newGame())
+                .withTicksPerSecond(1)
+                .withRenderer(game -> { });
+
+        var finished = loop.start();
+        assertThrows(IllegalStateException.class, loop::start);
+        loop.stop();
+
+        assertTrue(finished.isDone());
+        assertTrue(finished.join().ticks() <= 1);
+        assertThrows(IllegalArgumentException.class, () -> loop.withTicksPerSecond(0));
+    }
+}
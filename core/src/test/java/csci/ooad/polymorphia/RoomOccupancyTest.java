@@ -0,0 +1,98 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomOccupancyTest {
+
+    private static BitSet bits(int... rooms) {
+        BitSet bits = new BitSet();
+        for (int room : rooms) {
+            bits.set(room);
+        }
+        return bits;
+    }
+
+    @Test
+    void testBitsFollowTheRooms() {
+        // 1 x 3 corridor: Room 1 - Room 2 - Room 3
+        Adventurer bill = new Adventurer("Bill");
+        Creature ogre = new Creature("Ogre");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(1, 3)
+                .placeObjectIntoRoom(bill, "Room 1")
+                .placeObjectIntoRoom(ogre, "Room 2")
+                .placeObjectIntoRoom(new Demon("Satan"), "Room 3")
+                .placeObjectIntoRoom(new Food("Bread"), "Room 3")
+                .build();
+        RoomOccupancy occupancy = maze.getOccupancy();
+
+        assertEquals(bits(0), occupancy.roomsWithAdventurers());
+        assertEquals(bits(1, 2), occupancy.roomsWithCreatures());
+        assertEquals(bits(2), occupancy.roomsWithDemons());
+        assertEquals(bits(2), occupancy.roomsWithFood());
+        assertEquals(0, occupancy.countContestedRooms());
+
+        maze.getRoom("Room 2").enter(bill);
+        assertEquals(bits(1), occupancy.roomsWithAdventurers());
+        assertEquals(List.of(maze.getRoom("Room 2")), occupancy.getContestedRooms());
+
+        ogre.loseHealth(10.0);
+        assertEquals(bits(2), occupancy.roomsWithCreatures());
+        assertEquals(0, occupancy.countContestedRooms());
+
+        maze.getRoom("Room 3").eatFoodItem();
+        assertTrue(occupancy.roomsWithFood().isEmpty());
+        maze.getRoom("Room 1").add(new Food("Cake"));
+        assertEquals(bits(0), occupancy.roomsWithFood());
+    }
+
+    @Test
+    void testNearestRoomWithFood() {
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .placeObjectIntoRoom(new Food("Far"), "Room 9")
+                .placeObjectIntoRoom(new Food("Near"), "Room 4")
+                .build();
+        RoomOccupancy occupancy = maze.getOccupancy();
+
+        assertSame(maze.getRoom("Room 4"), occupancy.nearestRoomWithFood(maze.getRoom("Room 1")));
+        assertSame(maze.getRoom("Room 9"), occupancy.nearestRoomWithFood(maze.getRoom("Room 6")));
+        assertSame(maze.getRoom("Room 4"), occupancy.nearestRoomWithFood(maze.getRoom("Room 4")));
+        assertNull(occupancy.nearestRoomWithFood(new Room("Elsewhere")));
+    }
+
+    @Test
+    void testBitsAgreeWithTheRoomsThroughAWholeGame() {
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(4, 4)
+                .distributeRandomly()
+                .createAndAddAdventurers(2, 2, 2, 2)
+                .createAndAddCreatures(8, true)
+                .createAndAddFoodItems(10)
+                .build();
+        Polymorphia game = new Polymorphia(maze);
+        RoomOccupancy occupancy = maze.getOccupancy();
+
+        while (!game.isOver()) {
+            game.playTurn();
+            List<Room> rooms = maze.getRooms();
+            for (int i = 0; i < rooms.size(); i++) {
+                Room room = rooms.get(i);
+                assertEquals(!room.getLivingAdventurers().isEmpty(), occupancy.roomsWithAdventurers().get(i));
+                assertEquals(!room.getLivingCreatures().isEmpty(), occupancy.roomsWithCreatures().get(i));
+                assertEquals(room.getHealthiestDemon() != null, occupancy.roomsWithDemons().get(i));
+                assertEquals(room.hasFood(), occupancy.roomsWithFood().get(i));
+                assertEquals(room.getLivingAdventurers().size(), room.countLivingAdventurers());
+                assertEquals(room.getLivingCreatures().size(), room.countLivingCreatures());
+            }
+        }
+    }
+}
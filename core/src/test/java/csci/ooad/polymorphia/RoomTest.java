@@ -2,8 +2,12 @@ package csci.ooad.polymorphia;
 
 import csci.ooad.polymorphia.characters.Adventurer;
 import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Demon;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RoomTest {
@@ -77,4 +81,48 @@ class RoomTest {
         // Assert
         assertEquals(bilbo.getHealth(), highestHealth + Food.DEFAULT_FOOD_HEALTH_VALUE);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testRandomNeighborReachesEveryNeighbor() {
+        Room room = new Room("hub");
+        Set<Room> neighbors = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            Room neighbor = new Room("spoke " + i);
+            room.addNeighbor(neighbor);
+            neighbors.add(neighbor);
+        }
+
+        Set<Room> visited = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            visited.add(room.getRandomNeighbor());
+        }
+
+        assertEquals(neighbors, visited);
+    }
+
+    @Test
+    void testRandomCreatureSkipsAdventurersAndTheDead() {
+        Room room = new Room("onlyRoom");
+        Creature deadOrc = new Creature("Orc");
+        deadOrc.loseHealth(10.0);
+        Creature troll = new Creature("Troll");
+        room.add(new Adventurer("Bilbo"));
+        room.add(deadOrc);
+        room.add(troll);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(troll, room.getRandomCreature());
+        }
+    }
+
+    @Test
+    void testRandomDemon() {
+        Room room = new Room("onlyRoom");
+        room.add(new Creature("Troll"));
+        assertNull(room.getRandomDemon());
+
+        Demon demon = new Demon("Satan");
+        room.add(demon);
+        assertEquals(demon, room.getRandomDemon());
+    }
+}
@@ -0,0 +1,49 @@
+package csci.ooad.polymorphia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatisticsTest {
+
+    @Test
+    void testHypergeometricStaysWithinWhatCanBeDrawn() {
+        Random random = new Random(45);
+        for (int trial = 0; trial < 1000; trial++) {
+            // 10 of 12 drawn from a population with only 3 failures: at least 7 successes
+            long small = Statistics.hypergeometric(12, 9, 10, random);
+            assertTrue(small >= 7 && small <= 9, "drew " + small);
+            long large = Statistics.hypergeometric(1_000_000, 999_000, 5_000, random);
+            assertTrue(large >= 4_000 && large <= 5_000, "drew " + large);
+        }
+        assertEquals(5, Statistics.hypergeometric(5, 5, 5, random));
+        assertEquals(0, Statistics.hypergeometric(100, 0, 50, random));
+        assertThrows(IllegalArgumentException.class, () -> Statistics.hypergeometric(10, 11, 1, random));
+    }
+
+    @Test
+    void testHypergeometricMeanAndVariance() {
+        Random random = new Random(46);
+        for (long[] setting : new long[][]{{50, 20, 10}, {100_000, 30_000, 20_000}}) {
+            long population = setting[0];
+            long successes = setting[1];
+            long draws = setting[2];
+            int samples = 20_000;
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (int i = 0; i < samples; i++) {
+                long drawn = Statistics.hypergeometric(population, successes, draws, random);
+                sum += drawn;
+                sumOfSquares += (double) drawn * drawn;
+            }
+            double p = (double) successes / population;
+            double mean = draws * p;
+            double variance = mean * (1 - p) * (population - draws) / (population - 1.0);
+            double sampleMean = sum / samples;
+            assertEquals(mean, sampleMean, 4 * Math.sqrt(variance / samples));
+            assertEquals(variance, sumOfSquares / samples - sampleMean * sampleMean, 0.05 * variance);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package csci.ooad.polymorphia;
+
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristHashTest {
+
+    private static Maze smallMaze(String knightName) {
+        return Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(new Knight(knightName), "Room 1")
+                .placeObjectIntoRoom(new Adventurer("Bill"), "Room 2")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 1")
+                .placeObjectIntoRoom(new Creature("Troll"), "Room 4")
+                .placeObjectIntoRoom(new Food("Bread"), "Room 2")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 3")
+                .build();
+    }
+
+    @Test
+    void testSameStateSameHashWhateverTheNames() {
+        assertEquals(smallMaze("Galahad").getStateHash(), smallMaze("Lancelot").getStateHash());
+    }
+
+    @Test
+    void testIncrementalHashFollowsEveryChange() {
+        Polymorphia game = new Polymorphia(smallMaze("Galahad"));
+        Maze maze = game.getMaze();
+        long initial = maze.getStateHash();
+
+        while (!game.isOver()) {
+            game.playTurn();
+            assertEquals(ZobristHash.of(maze), maze.getStateHash());
+        }
+        assertNotEquals(initial, maze.getStateHash());
+    }
+
+    @Test
+    void testIdenticalCharactersDoNotCancelOut() {
+        Maze twoOgres = Maze.newBuilder()
+                .createNbyMGrid(1, 2)
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 1")
+                .build();
+        Maze empty = Maze.newBuilder().createNbyMGrid(1, 2).build();
+
+        assertNotEquals(empty.getStateHash(), twoOgres.getStateHash());
+    }
+
+    @Test
+    void testForksStartFromTheSameHash() {
+        Maze maze = smallMaze("Galahad");
+
+        assertEquals(maze.getStateHash(), maze.fork().getStateHash());
+    }
+
+    @Test
+    void testTranspositionTableKeepsWellEstablishedStates() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.record(1L, GameOutcome.ADVENTURERS_WIN, 10);
+        table.record(1L, GameOutcome.CREATURES_WIN, 20);
+        table.record(2L, GameOutcome.CREATURES_WIN, 5);
+
+        // Both slots are taken, so the state with a single game gives way
+        table.record(3L, GameOutcome.NO_WINNER, 7);
+
+        OutcomeStatistics known = table.get(1L);
+        assertEquals(2, known.games());
+        assertEquals(0.5, known.getWinRate(GameOutcome.ADVENTURERS_WIN));
+        assertEquals(15.0, known.getAverageTurns());
+        assertNull(table.get(2L));
+        assertEquals(1, table.get(3L).games());
+        assertEquals(2, table.size());
+        assertEquals(1, table.getEvictions());
+    }
+}
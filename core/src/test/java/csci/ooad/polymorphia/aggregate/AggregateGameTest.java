@@ -0,0 +1,97 @@
+package csci.ooad.polymorphia.aggregate;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MazeTopology;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Glutton;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import static csci.ooad.polymorphia.characters.CharacterType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AggregateGameTest {
+
+    @Test
+    void testCountsTheCharactersOfAMaze() {
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(new Knight("Galahad"), "Room 1")
+                .placeObjectIntoRoom(new Glutton("Homer"), "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 4")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 1")
+                .build();
+
+        AggregateGame game = AggregateGame.of(maze);
+
+        assertEquals(2, game.countLivingAdventurers());
+        assertEquals(1, game.countLivingCreatures());
+        assertEquals(1, game.countWithHealth(0, KNIGHT, 8.0));
+        assertEquals(1, game.countFood(0));
+    }
+
+    @Test
+    void testGluttonsEatEverythingAndCowardsFlee() {
+        AggregateGame game = new AggregateGame(MazeTopology.grid(1, 2))
+                .add(0, GLUTTON, 1)
+                .addFood(0, 3)
+                .add(1, COWARD, 1)
+                .add(1, CREATURE, 1);
+
+        game.playTurn();
+
+        assertEquals(0, game.countFood(0));
+        assertEquals(1, game.countWithHealth(0, GLUTTON, 6.0));
+        // Fleeing costs half a point, and the only way out is Room 1
+        assertEquals(1, game.countWithHealth(0, COWARD, 4.5));
+    }
+
+    @Test
+    void testDemonsFightEveryAdventurer() {
+        AggregateGame game = new AggregateGame(MazeTopology.grid(1, 1))
+                .add(0, DEMON, 1)
+                .add(0, COWARD, 1000);
+
+        game.playTurn();
+
+        // Every coward lost at least the mandatory half point in its fights
+        assertEquals(0, game.countWithHealth(0, COWARD, 5.0));
+        assertTrue(game.countLiving(0, DEMON) <= 1);
+    }
+
+    @Test
+    void testBillionsOfCharactersInAFixedNumberOfBuckets() {
+        AggregateGame game = new AggregateGame(MazeTopology.grid(4, 4)).withSeed(42);
+        for (int room = 0; room < 16; room++) {
+            game.add(room, KNIGHT, 100_000_000L);
+            game.add(room, CREATURE, 100_000_000L);
+            game.addFood(room, 1_000_000L);
+        }
+        int buckets = game.getBucketCount();
+
+        game.play();
+
+        assertNotNull(game.getOutcome());
+        assertEquals(GameOutcome.ADVENTURERS_WIN, game.getOutcome());
+        assertEquals(buckets, game.getBucketCount());
+    }
+
+    @Test
+    void testRejectsRoomsOutsideTheMaze() {
+        AggregateGame game = new AggregateGame(MazeTopology.grid(2, 2));
+
+        assertThrows(IllegalArgumentException.class, () -> game.add(4, KNIGHT, 1));
+        assertThrows(IllegalArgumentException.class, () -> game.add(0, KNIGHT, 0.0, 1));
+    }
+
+    @Test
+    void testRejectsMoreBucketsThanOneArrayHolds() {
+        // 2 million rooms * 6 types * 257 health levels does not fit in an int
+        IllegalArgumentException tooMany = assertThrows(IllegalArgumentException.class,
+                () -> new AggregateGame(MazeTopology.grid(2000, 1000)));
+        assertTrue(tooMany.getMessage().contains("maxHealth"));
+        assertThrows(IllegalArgumentException.class, () -> new AggregateGame(MazeTopology.grid(1, 1), 1e9));
+    }
+}
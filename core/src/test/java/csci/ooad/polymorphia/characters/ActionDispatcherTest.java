@@ -0,0 +1,83 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Room;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionDispatcherTest {
+
+    @Test
+    void testEveryClassHasItsOwnTag() {
+        assertEquals(CharacterType.ADVENTURER, new Adventurer("Bill").getType());
+        assertEquals(CharacterType.KNIGHT, new Knight("Galahad").getType());
+        assertEquals(CharacterType.COWARD, new Coward("Robin").getType());
+        assertEquals(CharacterType.GLUTTON, new Glutton("Pooh").getType());
+        assertEquals(CharacterType.CREATURE, new Creature("Ogre").getType());
+        assertEquals(CharacterType.DEMON, new Demon("Satan").getType());
+        assertEquals(CharacterType.KNIGHT, new Knight("Galahad").copy().getType());
+    }
+
+    @Test
+    void testTagsAgreeWithTheTeams() {
+        for (CharacterType type : CharacterType.values()) {
+            assertNotEquals(type.isAdventurer(), type.isCreature());
+        }
+        assertTrue(new Glutton("Pooh").isAdventurer());
+        assertTrue(new Demon("Satan").isCreature());
+        assertFalse(new Demon("Satan").isAdventurer());
+    }
+
+    @Test
+    void testKnightFightsThroughTheDispatcher() {
+        Room room = new Room("Arena");
+        Knight knight = new Knight("Galahad");
+        Creature ogre = new Creature("Ogre");
+        room.add(knight);
+        room.add(ogre);
+
+        ActionDispatcher.act(knight);
+
+        // Every fight costs both sides the mandatory half point
+        assertEquals(0.5, knight.getHealth() % 1);
+        assertTrue(ogre.getHealth() < 3.0);
+    }
+
+    @Test
+    void testGluttonEatsEverythingThroughTheDispatcher() {
+        Room room = new Room("Kitchen");
+        Glutton glutton = new Glutton("Pooh");
+        room.add(glutton);
+        room.add(new Food("Honey"));
+        room.add(new Food("Bread"));
+
+        ActionDispatcher.act(glutton);
+
+        assertFalse(room.hasFood());
+        assertEquals(5.0, glutton.getHealth());
+    }
+
+    @Test
+    void testDemonsFoundByTag() {
+        Room room = new Room("Pit");
+        Demon weak = new Demon("Imp", 2.0);
+        Demon strong = new Demon("Balrog", 20.0);
+        Demon alsoStrong = new Demon("Azazel", 20.0);
+        room.add(new Creature("Ogre", 30.0));
+        room.add(weak);
+        room.add(strong);
+        room.add(alsoStrong);
+
+        assertTrue(room.hasLivingDemons());
+        assertSame(strong, room.getHealthiestDemon());
+
+        strong.loseHealth(100.0);
+        alsoStrong.loseHealth(100.0);
+        assertSame(weak, room.getHealthiestDemon());
+
+        weak.loseHealth(100.0);
+        assertFalse(room.hasLivingDemons());
+        assertNull(room.getHealthiestDemon());
+    }
+}
@@ -0,0 +1,67 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.Room;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchCombatTest {
+
+    @Test
+    void testDemonFightsEveryAdventurerExactlyOnce() {
+        Room lair = new Room("Lair");
+        Demon demon = new Demon("Satan", 1000.0);
+        lair.add(demon);
+        List<Adventurer> adventurers = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Adventurer adventurer = new Adventurer("Minion " + i, 100.0);
+            adventurers.add(adventurer);
+            lair.add(adventurer);
+        }
+
+        demon.doAction();
+
+        for (Adventurer adventurer : adventurers) {
+            // Half a point for fighting plus at most 5 from the dice, always whole points apart
+            double lost = 100.0 - adventurer.getHealth();
+            assertTrue(lost >= 0.5 && lost <= 5.5);
+            assertEquals(0.5, lost % 1);
+        }
+        double demonLost = 1000.0 - demon.getHealth();
+        assertTrue(demonLost >= 40 * 0.5);
+        assertEquals(0.0, demonLost % 1);
+    }
+
+    @Test
+    void testDeadAdventurersAreNotFought() {
+        Room lair = new Room("Lair");
+        Demon demon = new Demon("Satan");
+        Adventurer dead = new Adventurer("Ghost");
+        dead.loseHealth(10.0);
+        lair.add(demon);
+        lair.add(dead);
+
+        demon.doAction();
+
+        assertEquals(15.0, demon.getHealth());
+    }
+
+    @Test
+    void testBuffersGrowForCrowdedRooms() {
+        BatchCombat combat = new BatchCombat();
+        Room lair = new Room("Lair");
+        Creature creature = new Creature("Ogre", 10000.0);
+        lair.add(creature);
+        for (int i = 0; i < 100; i++) {
+            lair.add(new Adventurer("Minion " + i, 100.0));
+        }
+
+        combat.fightAllAdventurers(creature);
+        combat.fightAllAdventurers(creature);
+
+        assertTrue(creature.getHealth() <= 10000.0 - 200 * 0.5);
+    }
+}
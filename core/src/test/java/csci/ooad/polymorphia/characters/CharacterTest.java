@@ -381,4 +381,46 @@ class CharacterTest {
         assertTrue(demon.getHealth() < 15.0, "Demon should have lost health after fighting.");
     }
 
-}
\ No newline at end of file
+    @Test
+    void testDecisionPolicyOverridesBuiltInBehavior() {
+        Knight knight = new Knight("Sir Robin");
+        Creature ogre = new Creature("Ogre");
+        Room room = new Room("Tavern");
+        room.add(knight);
+        room.add(ogre);
+        room.add(new Food("Ale"));
+
+        assertEquals(Decision.FIGHT, knight.defaultDecision());
+        assertEquals(List.of(Decision.FIGHT, Decision.EAT, Decision.MOVE), knight.legalDecisions());
+
+        knight.setDecisionPolicy(adventurer -> Decision.EAT);
+        knight.doAction();
+
+        assertEquals(9.0, knight.getHealth());
+        assertEquals(3.0, ogre.getHealth());
+        assertFalse(room.hasFood());
+        assertThrows(IllegalArgumentException.class, () -> knight.carryOut(Decision.EAT));
+    }
+
+    @Test
+    void testCowardsAndGluttonsCannotRunFromDemons() {
+        Coward coward = new Coward("Scaredy");
+        Glutton glutton = new Glutton("Hungry");
+        Demon demon = new Demon("Balrog");
+        Room room = new Room("Pit");
+        room.add(coward);
+        room.add(glutton);
+        room.add(demon);
+        room.add(new Food("Pie"));
+
+        assertEquals(List.of(Decision.FIGHT), coward.legalDecisions());
+        assertEquals(List.of(Decision.FIGHT), glutton.legalDecisions());
+
+        coward.setDecisionPolicy(adventurer -> Decision.MOVE);
+        glutton.setDecisionPolicy(adventurer -> Decision.EAT);
+        assertThrows(IllegalArgumentException.class, coward::doAction);
+        assertThrows(IllegalArgumentException.class, glutton::doAction);
+        assertSame(room, coward.getCurrentLocation());
+        assertTrue(room.hasFood());
+    }
+}
@@ -0,0 +1,80 @@
+package csci.ooad.polymorphia.characters;
+
+import csci.ooad.polymorphia.FightOutcomeTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DuelTest {
+
+    @Test
+    void testProbabilitiesAddUp() {
+        Duel duel = Duel.between(8.0, 15.0);
+
+        double total = duel.attackerWinProbability() + duel.defenderWinProbability() + duel.bothDieProbability();
+        assertEquals(1.0, total, 1e-9);
+        assertTrue(duel.defenderWinProbability() > duel.attackerWinProbability());
+    }
+
+    @Test
+    void testEvenDuelIsSymmetric() {
+        Duel duel = Duel.between(5.0, 5.0);
+
+        assertEquals(duel.attackerWinProbability(), duel.defenderWinProbability(), 1e-9);
+        assertEquals(duel.expectedAttackerHealthLost(), duel.expectedDefenderHealthLost(), 1e-9);
+    }
+
+    @Test
+    void testMatchesFightingItOut() {
+        int games = 20000;
+        int attackerWins = 0;
+        for (int i = 0; i < games; i++) {
+            Adventurer adventurer = new Adventurer("Bill", 5.0);
+            Creature ogre = new Creature("Ogre", 3.0);
+            while (adventurer.isAlive() && ogre.isAlive()) {
+                adventurer.fight(ogre);
+            }
+            if (adventurer.isAlive()) {
+                attackerWins++;
+            }
+        }
+
+        // Within about four standard deviations of the exact answer
+        assertEquals(Duel.between(5.0, 3.0).attackerWinProbability(), (double) attackerWins / games, 0.015);
+    }
+
+    @Test
+    void testFastForwardEndsTheDuel() {
+        Adventurer adventurer = new Adventurer("Bill", 4.75);
+        Creature ogre = new Creature("Ogre");
+
+        Character survivor = Duel.fastForward(adventurer, ogre);
+
+        assertFalse(adventurer.isAlive() && ogre.isAlive());
+        if (survivor != null) {
+            assertTrue(survivor.isAlive());
+        }
+        // A quarter point left over from moving stays a quarter point
+        assertEquals(0.25, Math.abs(adventurer.getHealth() % 0.5), 1e-9);
+        assertEquals(0.0, ogre.getHealth() % 0.5, 1e-9);
+    }
+
+    @Test
+    void testHealthWithTheSameHalfPointsShareATable() {
+        assertSame(Duel.between(4.75, 3.0), Duel.between(5.0, 3.0));
+        assertThrows(IllegalArgumentException.class, () -> Duel.between(0.0, 3.0));
+    }
+
+    @Test
+    void testCacheKeepsOnlyRecentTables() {
+        for (int health = 1; health <= Duel.CACHE_CAPACITY + 50; health++) {
+            Duel.between(health * 0.5, 1.0);
+        }
+        assertTrue(Duel.cacheSize() <= Duel.CACHE_CAPACITY);
+
+        // Same sides but a different table is a different duel
+        FightOutcomeTable fourSided = FightOutcomeTable.forSides(4);
+        assertNotSame(Duel.between(5.0, 3.0), Duel.between(5.0, 3.0, fourSided));
+        assertSame(Duel.between(5.0, 3.0, fourSided), Duel.between(5.0, 3.0, fourSided));
+    }
+}
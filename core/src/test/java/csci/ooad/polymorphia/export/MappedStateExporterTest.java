@@ -0,0 +1,120 @@
+package csci.ooad.polymorphia.export;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.characters.Character;
+import csci.ooad.polymorphia.characters.CharacterType;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedStateExporterTest {
+
+    @Test
+    void testSnapshotMatchesTheMaze() throws IOException {
+        Room hall = new Room("Hall");
+        Room yard = new Room("Yard");
+        Knight knight = new Knight("Galahad");
+        Maze maze = Maze.newBuilder()
+                .addRoom(hall)
+                .placeObjectIntoRoom(knight, hall)
+                .placeObjectIntoRoom(new Creature("Ogre"), hall)
+                .placeObjectIntoRoom(new Food("Bread"), hall)
+                .build();
+        maze.getRooms().add(yard);
+        Path file = Files.createTempFile("polymorphia", ".state");
+
+        try (MappedStateExporter exporter = new MappedStateExporter(file, maze);
+             MappedStateReader reader = new MappedStateReader(file)) {
+            exporter.export(3);
+            MappedStateReader.Snapshot snapshot = reader.read();
+
+            assertEquals(2, snapshot.sequence());
+            assertEquals(3, snapshot.turn());
+            assertArrayEquals(new int[]{1, 0}, snapshot.adventurersInRoom());
+            assertArrayEquals(new int[]{1, 0}, snapshot.creaturesInRoom());
+            assertArrayEquals(new int[]{1, 0}, snapshot.foodInRoom());
+            assertEquals(2, snapshot.characterCount());
+            assertEquals(CharacterType.KNIGHT, snapshot.characterTypes()[0]);
+            assertEquals(8.0, snapshot.characterHealth()[0]);
+            assertEquals(exporter.getCharacterId(knight), snapshot.characterIds()[0]);
+            assertFalse(snapshot.truncated());
+
+            yard.enter(knight);
+            knight.loseHealth(1.0);
+            exporter.export(4);
+            snapshot = reader.read();
+
+            assertEquals(4, snapshot.sequence());
+            assertArrayEquals(new int[]{0, 1}, snapshot.adventurersInRoom());
+            int knightRecord = Arrays.stream(snapshot.characterIds()).boxed().toList()
+                    .indexOf(exporter.getCharacterId(knight));
+            assertEquals(1, snapshot.characterRooms()[knightRecord]);
+            assertEquals(7.0, snapshot.characterHealth()[knightRecord]);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testEveryTurnIsExported() throws IOException {
+        Polymorphia game = new Polymorphia(Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .distributeRandomly()
+                .createAndAddAdventurers(4)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(5)
+                .build());
+        List<Character> startingCharacters = game.getLivingCharacters();
+        Path file = Files.createTempFile("polymorphia", ".state");
+
+        try (MappedStateExporter exporter = MappedStateExporter.attach(file, game);
+             MappedStateReader reader = new MappedStateReader(file)) {
+            assertEquals(0, reader.read().turn());
+            assertEquals(8, reader.read().characterCount());
+
+            game.play();
+            MappedStateReader.Snapshot last = reader.read();
+
+            assertEquals(game.getTurnCount(), last.turn());
+            assertEquals(2L * (game.getTurnCount() + 1), last.sequence());
+            assertEquals(game.getLivingCharacters().size(), last.characterCount());
+            assertEquals(game.getMaze().getTotalFoodHealthValue(), Arrays.stream(last.foodInRoom()).sum());
+            // Only the survivors keep an id
+            List<Integer> ids = Arrays.stream(last.characterIds()).boxed().toList();
+            for (Character character : startingCharacters) {
+                int id = exporter.getCharacterId(character);
+                assertEquals(character.isAlive(), id >= 0);
+                assertEquals(character.isAlive(), ids.contains(id));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testCharactersBeyondCapacityAreFlagged() throws IOException {
+        Maze maze = Maze.newBuilder().createNbyMGrid(1, 2).createAndAddAdventurers(3).build();
+        Path file = Files.createTempFile("polymorphia", ".state");
+
+        try (MappedStateExporter exporter = new MappedStateExporter(file, maze, 2);
+             MappedStateReader reader = new MappedStateReader(file)) {
+            exporter.export(0);
+
+            assertEquals(2, reader.read().characterCount());
+            assertTrue(reader.read().truncated());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package csci.ooad.polymorphia.health;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HealthKernelTest {
+
+    @Test
+    void testScalarKernelFollowsLoseHealth() {
+        double[] health = {3.0, 0.25, 0.0, -1.0, 0.5, 0.2};
+        int[] newlyDead = new int[health.length];
+
+        int dead = HealthKernel.scalar().loseHealthForMoving(health, health.length, newlyDead);
+
+        assertEquals(2, dead);
+        assertArrayEquals(new int[]{1, 5}, Arrays.copyOf(newlyDead, dead));
+        // The already dead are untouched, the newly dead clamped at zero
+        assertArrayEquals(new double[]{2.75, 0.0, 0.0, -1.0, 0.25, 0.0}, health);
+    }
+
+    @Test
+    void testOnlyCountUpdatesAreApplied() {
+        double[] health = {1.0, 1.0, 1.0};
+        int[] newlyDead = new int[health.length];
+
+        assertEquals(0, HealthKernel.best().loseHealthForFighting(health, 2, newlyDead));
+        assertEquals(2, HealthKernel.best().loseHealthForFighting(health, 2, newlyDead));
+        assertArrayEquals(new int[]{0, 1}, Arrays.copyOf(newlyDead, 2));
+        assertArrayEquals(new double[]{0.0, 0.0, 1.0}, health);
+    }
+
+    @Test
+    void testBestKernelMatchesScalarKernel() {
+        Random random = new Random(50);
+        // Lengths around every lane count, so the scalar tail gets exercised too
+        for (int count : new int[]{0, 1, 3, 7, 8, 9, 17, 1000, 1003}) {
+            double[] health = new double[count];
+            double[] losses = new double[count];
+            for (int i = 0; i < count; i++) {
+                health[i] = random.nextInt(5) == 0 ? 0.0 : random.nextInt(13) * 0.25 - 0.25;
+                losses[i] = random.nextInt(9) * 0.25;
+            }
+            assertSameUpdates(health, count, kernel -> (h, dead) -> kernel.loseHealthForMoving(h, count, dead));
+            assertSameUpdates(health, count, kernel -> (h, dead) -> kernel.loseHealth(h, losses, count, dead));
+        }
+    }
+
+    private interface Update {
+        int apply(double[] health, int[] newlyDead);
+    }
+
+    private static void assertSameUpdates(double[] health, int count,
+                                          Function<HealthKernel, Update> update) {
+        double[] expected = health.clone();
+        double[] actual = health.clone();
+        int[] expectedDead = new int[count];
+        int[] actualDead = new int[count];
+
+        int expectedCount = update.apply(HealthKernel.scalar()).apply(expected, expectedDead);
+        int actualCount = update.apply(HealthKernel.best()).apply(actual, actualDead);
+
+        assertEquals(expectedCount, actualCount);
+        assertArrayEquals(expectedDead, actualDead);
+        assertArrayEquals(expected, actual);
+    }
+}
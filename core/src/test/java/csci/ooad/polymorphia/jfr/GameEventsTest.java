@@ -0,0 +1,100 @@
+package csci.ooad.polymorphia.jfr;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventsTest {
+
+    private List<RecordedEvent> record(Runnable gamePlay) throws IOException {
+        Path file = Files.createTempFile("polymorphia", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (Class<?> eventType : List.of(TurnEvent.class, FightEvent.class, MoveEvent.class,
+                    EatEvent.class, DeathEvent.class)) {
+                recording.enable(eventType.getName()).withoutThreshold();
+            }
+            recording.start();
+            gamePlay.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testGameEmitsEvents() throws IOException {
+        Room kitchen = new Room("Kitchen");
+        Room hall = new Room("Hall");
+        kitchen.connect(hall);
+        Maze maze = Maze.newBuilder()
+                .addRoom(kitchen)
+                .placeObjectIntoRoom(new Adventurer("Bilbo", 20.0), kitchen)
+                .placeObjectIntoRoom(new Creature("Ogre"), kitchen)
+                .placeObjectIntoRoom(new Food("Cookie"), kitchen)
+                .build();
+        Polymorphia game = new Polymorphia(maze);
+
+        List<RecordedEvent> events = record(game::play);
+
+        Set<String> types = events.stream()
+                .map(event -> event.getEventType().getName())
+                .collect(Collectors.toSet());
+        assertTrue(types.contains("csci.ooad.polymorphia.Turn"));
+        assertTrue(types.contains("csci.ooad.polymorphia.Fight"));
+        assertTrue(types.contains("csci.ooad.polymorphia.Death"));
+
+        RecordedEvent fight = events.stream()
+                .filter(event -> event.getEventType().getName().equals("csci.ooad.polymorphia.Fight"))
+                .findFirst().orElseThrow();
+        assertEquals("Bilbo", fight.getString("attacker"));
+        assertEquals("Kitchen", fight.getString("room"));
+        int attackerRoll = fight.getInt("attackerRoll");
+        int defenderRoll = fight.getInt("defenderRoll");
+        assertEquals(Math.abs(attackerRoll - defenderRoll), fight.getInt("damage"));
+    }
+
+    @Test
+    void testEatAndMoveEvents() throws IOException {
+        Room kitchen = new Room("Kitchen");
+        Room hall = new Room("Hall");
+        kitchen.connect(hall);
+        Adventurer bilbo = new Adventurer("Bilbo");
+        kitchen.add(bilbo);
+        kitchen.add(new Food("Cookie"));
+
+        List<RecordedEvent> events = record(() -> {
+            bilbo.doAction();   // eats
+            bilbo.doAction();   // nothing left, so moves
+        });
+
+        RecordedEvent eat = events.stream()
+                .filter(event -> event.getEventType().getName().equals("csci.ooad.polymorphia.Eat"))
+                .findFirst().orElseThrow();
+        assertEquals("Cookie", eat.getString("food"));
+        assertEquals(1, eat.getInt("healthGained"));
+
+        RecordedEvent move = events.stream()
+                .filter(event -> event.getEventType().getName().equals("csci.ooad.polymorphia.Move"))
+                .findFirst().orElseThrow();
+        assertEquals("Kitchen", move.getString("fromRoom"));
+        assertEquals("Hall", move.getString("toRoom"));
+    }
+}
@@ -116,6 +116,24 @@ class MazeBuilderTest {
         assertTrue(targetRoom.getLivingCreatures().contains(creature));
     }
 
+    @Test
+    void testPlaceObjectIntoRoomByName() {
+        Adventurer adventurer = new Adventurer("Brave Adventurer");
+        Maze maze = builder.createNbyMGrid(3, 3)
+                .placeObjectIntoRoom(adventurer, "Room 5")
+                .placeObjectIntoRoom(new Food("Bread"), "Room 9")
+                .build();
+
+        assertEquals("Room 5", adventurer.getCurrentLocation().getName());
+        assertSame(maze.getRoom("Room 5"), adventurer.getCurrentLocation());
+        assertTrue(maze.getRoom("Room 9").hasFood());
+        assertNull(maze.getRoom("Room 10"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Maze.newBuilder().createNbyMGrid(2, 2).placeObjectIntoRoom(adventurer, "Room 0"));
+        assertThrows(IllegalArgumentException.class,
+                () -> Maze.newBuilder().addRoom(new Room("Hall")).placeObjectIntoRoom(adventurer, "Yard"));
+    }
+
     @Test
     void testPlaceFoodIntoRoom() {
         Room targetRoom = new Room("Target Room");
@@ -0,0 +1,185 @@
+package csci.ooad.polymorphia.topology;
+
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Room;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopologyTest {
+
+    private static List<Long> readAll(TopologySource source, int chunkSize) {
+        List<Long> edges = new ArrayList<>();
+        long[] chunk = new long[chunkSize];
+        try (EdgeCursor cursor = source.openEdges()) {
+            int count;
+            while ((count = cursor.nextChunk(chunk)) > 0) {
+                for (int i = 0; i < count; i++) {
+                    edges.add(chunk[i]);
+                }
+            }
+        }
+        return edges;
+    }
+
+    private static boolean isConnected(Maze maze) {
+        Set<Room> visited = new HashSet<>();
+        Deque<Room> toVisit = new ArrayDeque<>();
+        toVisit.add(maze.getRooms().getFirst());
+        while (!toVisit.isEmpty()) {
+            Room room = toVisit.poll();
+            if (visited.add(room)) {
+                toVisit.addAll(room.getNeighbors());
+            }
+        }
+        return visited.size() == maze.size();
+    }
+
+    @Test
+    void testEdgePacking() {
+        long edge = TopologySource.edge(123456, 7);
+        assertEquals(123456, TopologySource.from(edge));
+        assertEquals(7, TopologySource.to(edge));
+    }
+
+    @Test
+    void testTorusGivesEveryRoomFourNeighbors() {
+        Maze maze = Maze.newBuilder().createFromTopology(new TorusTopology(4, 5)).build();
+
+        assertEquals(20, maze.size());
+        maze.getRooms().forEach(room -> assertEquals(4, room.getNeighbors().size()));
+    }
+
+    @Test
+    void testNarrowTorusHasNoDuplicateEdges() {
+        Maze maze = Maze.newBuilder().createFromTopology(new TorusTopology(2, 1)).build();
+
+        maze.getRooms().forEach(room -> assertEquals(1, room.getNeighbors().size()));
+    }
+
+    @Test
+    void testChunkSizeDoesNotChangeTheEdges() {
+        TopologySource cave = new CaveTopology(7, 9, 0.3, 42);
+
+        assertEquals(readAll(cave, 1), readAll(cave, 1000));
+    }
+
+    @Test
+    void testCaveIsConnected() {
+        CaveTopology cave = new CaveTopology(30, 40, 0.2, 7);
+        Maze maze = Maze.newBuilder().createFromTopology(cave).build();
+
+        assertTrue(isConnected(maze));
+        assertTrue(readAll(cave, 64).size() >= cave.roomCount() - 1);
+    }
+
+    @Test
+    void testRandomSparseGraphIsConnectedAndRepeatable() {
+        RandomSparseTopology sparse = new RandomSparseTopology(5000, 3.0, 99);
+
+        List<Long> firstPass = readAll(sparse, 256);
+        assertEquals(firstPass, readAll(sparse, 4096));
+        assertEquals(sparse.edgeCount(), firstPass.size());
+        assertTrue(isConnected(Maze.newBuilder().createFromTopology(sparse).build()));
+    }
+
+    @Test
+    void testEdgeListFileRoundTrip() throws IOException {
+        Path file = Files.createTempFile("maze", ".edges");
+        try {
+            TorusTopology torus = new TorusTopology(10, 10);
+            EdgeListFile written = EdgeListFile.write(torus, file);
+            EdgeListFile reopened = EdgeListFile.open(file);
+
+            assertEquals(100, reopened.roomCount());
+            assertEquals(readAll(torus, 10), readAll(written, 33));
+            assertEquals(readAll(torus, 10), readAll(reopened, 7));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testNotAnEdgeListFile() throws IOException {
+        Path file = Files.createTempFile("maze", ".edges");
+        try {
+            Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+            assertThrows(IOException.class, () -> EdgeListFile.open(file));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testTruncatedEdgeListFileIsRejected() throws IOException {
+        Path file = Files.createTempFile("maze", ".edges");
+        try {
+            EdgeListFile.write(new TorusTopology(3, 3), file);
+            byte[] whole = Files.readAllBytes(file);
+            // Cut off inside the last edge's from, and inside its to
+            for (int missing : new int[]{5, 6, 7, 1, 2, 3}) {
+                Files.write(file, Arrays.copyOf(whole, whole.length - missing));
+                assertThrows(IOException.class, () -> EdgeListFile.open(file));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void testInvalidEdgeIsRejected() {
+        TopologySource broken = new TopologySource() {
+            @Override
+            public int roomCount() {
+                return 2;
+            }
+
+            @Override
+            public EdgeCursor openEdges() {
+                return new EdgeCursor() {
+                    boolean done = false;
+
+                    @Override
+                    public int nextChunk(long[] buffer) {
+                        if (done) {
+                            return 0;
+                        }
+                        done = true;
+                        buffer[0] = TopologySource.edge(0, 5);
+                        return 1;
+                    }
+                };
+            }
+        };
+
+        assertThrows(IllegalArgumentException.class, () -> Maze.newBuilder().createFromTopology(broken));
+    }
+
+    @Test
+    void testGameOnCave() {
+        Maze maze = Maze.newBuilder()
+                .createFromTopology(new CaveTopology(6, 6, 0.25, 3))
+                .distributeRandomly()
+                .createAndAddAdventurers(1, 1, 1, 1)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(10)
+                .build();
+        Polymorphia game = new Polymorphia(maze);
+
+        game.play();
+
+        assertTrue(game.isOver());
+    }
+}
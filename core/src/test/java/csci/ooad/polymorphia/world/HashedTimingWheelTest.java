@@ -0,0 +1,72 @@
+package csci.ooad.polymorphia.world;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    @Test
+    void testFiresOnTheDeadlineTick() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule(2, "soon");
+        // Same slot as "soon", two rotations later
+        wheel.schedule(18, "later");
+
+        assertEquals(0, wheel.advance(fired::add));
+        assertEquals(1, wheel.advance(fired::add));
+        assertEquals(List.of("soon"), fired);
+
+        for (int tick = 3; tick < 18; tick++) {
+            wheel.advance(fired::add);
+        }
+        assertEquals(List.of("soon"), fired);
+        wheel.advance(fired::add);
+        assertEquals(List.of("soon", "later"), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testCancelledTimersNeverFire() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(4);
+        List<String> fired = new ArrayList<>();
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule(1, "cancelled");
+        wheel.schedule(1, "kept");
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        wheel.advance(fired::add);
+
+        assertEquals(List.of("kept"), fired);
+        assertFalse(cancelled.isPending());
+    }
+
+    @Test
+    void testTasksCanRescheduleWhileFiring() {
+        HashedTimingWheel<Runnable> wheel = new HashedTimingWheel<>(4);
+        int[] runs = {0};
+        wheel.schedule(4, new Runnable() {
+            @Override
+            public void run() {
+                runs[0]++;
+                wheel.schedule(4, this);
+            }
+        });
+
+        for (int tick = 0; tick < 12; tick++) {
+            wheel.advance(Runnable::run);
+        }
+        assertEquals(3, runs[0]);
+        assertEquals(1, wheel.getPendingCount());
+    }
+
+    @Test
+    void testRejectsBadArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(0));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(4).schedule(0, "now"));
+    }
+}
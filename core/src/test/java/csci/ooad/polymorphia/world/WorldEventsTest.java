@@ -0,0 +1,52 @@
+package csci.ooad.polymorphia.world;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Room;
+import csci.ooad.polymorphia.characters.Adventurer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldEventsTest {
+
+    @Test
+    void testEatenFoodGrowsBack() {
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(1, 2)
+                .placeObjectIntoRoom(new Food("Bread"), "Room 1")
+                .build();
+        Room room = maze.getRoom("Room 1");
+        WorldEvents events = new WorldEvents(maze).withFoodRegrowth(3);
+
+        room.eatFoodItem();
+        assertFalse(room.hasFood());
+        events.advance();
+        events.advance();
+        assertFalse(room.hasFood());
+        events.advance();
+
+        assertTrue(room.hasFood());
+        assertEquals(0, events.getPendingCount());
+    }
+
+    @Test
+    void testSpawnWavesAndDemonArrivalsRepeat() {
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(new Adventurer("Bill"), "Room 1")
+                .build();
+        WorldEvents events = new WorldEvents(maze, 4)
+                .withSpawnWaves(2, 3)
+                .withDemonArrivals(5);
+
+        for (int turn = 0; turn < 10; turn++) {
+            events.advance();
+        }
+
+        // Five waves of three, plus two Demons
+        assertEquals(17, maze.getLivingCreatures().size());
+        assertEquals(2, events.getPendingCount());
+        assertTrue(maze.hasLivingCreatures());
+    }
+}
@@ -0,0 +1,78 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MazeTopology;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Everything needed to build a game's maze, in a form that can cross a process boundary.
+// The text form is the same key=value list the load profiles use, e.g.
+//   rows=5 cols=5 knights=2 cowards=2 gluttons=2 regular=4 creatures=8 demon=true food=20
+public record GameSpec(int rows, int cols, int knights, int cowards, int gluttons, int regular,
+                       int creatures, boolean demon, int food) {
+
+    public GameSpec {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("rows and cols must be positive");
+        }
+        if (knights < 0 || cowards < 0 || gluttons < 0 || regular < 0 || creatures < 0 || food < 0) {
+            throw new IllegalArgumentException("character and food counts cannot be negative");
+        }
+    }
+
+    public Maze buildMaze() {
+        return buildMaze(topology());
+    }
+
+    // The rows x cols grid, for callers that build many mazes from one spec
+    public MazeTopology topology() {
+        return MazeTopology.grid(rows, cols);
+    }
+
+    public Maze buildMaze(MazeTopology topology) {
+        if (topology.roomCount() != rows * cols) {
+            throw new IllegalArgumentException("topology must have " + rows * cols + " rooms");
+        }
+        return Maze.newBuilder()
+                .useTopology(topology)
+                .distributeRandomly()
+                .createAndAddAdventurers(knights, cowards, gluttons, regular)
+                .createAndAddCreatures(creatures, demon)
+                .createAndAddFoodItems(food)
+                .build();
+    }
+
+    public String encode() {
+        return "rows=" + rows + " cols=" + cols + " knights=" + knights + " cowards=" + cowards
+                + " gluttons=" + gluttons + " regular=" + regular + " creatures=" + creatures
+                + " demon=" + demon + " food=" + food;
+    }
+
+    public static GameSpec parse(String encoded) {
+        Map<String, String> settings = new HashMap<>();
+        for (String setting : encoded.trim().split("\\s+")) {
+            String[] keyAndValue = setting.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got " + setting);
+            }
+            settings.put(keyAndValue[0], keyAndValue[1]);
+        }
+        if (settings.size() != 9) {
+            throw new IllegalArgumentException("Incomplete game spec: " + encoded);
+        }
+        return new GameSpec(intSetting(settings, "rows"), intSetting(settings, "cols"),
+                intSetting(settings, "knights"), intSetting(settings, "cowards"),
+                intSetting(settings, "gluttons"), intSetting(settings, "regular"),
+                intSetting(settings, "creatures"), Boolean.parseBoolean(settings.get("demon")),
+                intSetting(settings, "food"));
+    }
+
+    private static int intSetting(Map<String, String> settings, String key) {
+        String value = settings.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Game spec is missing " + key);
+        }
+        return Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,264 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.Die;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Decision;
+import csci.ooad.polymorphia.characters.DecisionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Chooses an adventurer's move by Monte Carlo Tree Search over forked copies of the maze.
+// The tree is open loop: a node is a sequence of this adventurer's own decisions, and every
+// rollout draws fresh dice for everything else, which suits a game this random. Within the tree
+// the adventurer picks by UCB1; below it, and for every other character, the built-in behavior
+// plays the game out. Each worker thread grows its own tree from its own snapshot of the maze
+// until the time budget is spent, and the root statistics are summed (root parallelization).
+// Every worker rolls its own seeded dice stream, so the threads never share a Random.
+//
+// Rollouts play on copy-on-write forks of the worker's snapshot, so a rollout copies only the
+// rooms its game reaches. A rollout starts a fresh turn after the decision, so the rest of the
+// current turn is approximated by the turns that follow.
+public class MctsPolicy implements DecisionPolicy, AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(MctsPolicy.class);
+
+    private final Maze maze;
+    private Duration timeBudget = Duration.ofMillis(50);
+    private int maxRolloutsPerThread = 2_000;
+    private int treeDepth = 3;
+    private int rolloutTurns = 50;
+    private double exploration = Math.sqrt(2);
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long seed = System.nanoTime();
+    private long searches = 0;
+    private ExecutorService executor;
+
+    // Decides for adventurers in this maze
+    public MctsPolicy(Maze maze) {
+        this.maze = maze;
+    }
+
+    public MctsPolicy withTimeBudget(Duration timeBudget) {
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("timeBudget must be positive");
+        }
+        this.timeBudget = timeBudget;
+        return this;
+    }
+
+    public MctsPolicy withMaxRolloutsPerThread(int maxRolloutsPerThread) {
+        if (maxRolloutsPerThread <= 0) {
+            throw new IllegalArgumentException("maxRolloutsPerThread must be positive");
+        }
+        this.maxRolloutsPerThread = maxRolloutsPerThread;
+        return this;
+    }
+
+    // How many of its own future decisions the tree plans; deeper ones use the built-in behavior
+    public MctsPolicy withTreeDepth(int treeDepth) {
+        if (treeDepth <= 0) {
+            throw new IllegalArgumentException("treeDepth must be positive");
+        }
+        this.treeDepth = treeDepth;
+        return this;
+    }
+
+    // Unfinished rollouts are scored by the adventurers' share of the health left in the maze
+    public MctsPolicy withRolloutTurns(int rolloutTurns) {
+        if (rolloutTurns <= 0) {
+            throw new IllegalArgumentException("rolloutTurns must be positive");
+        }
+        this.rolloutTurns = rolloutTurns;
+        return this;
+    }
+
+    public MctsPolicy withExploration(double exploration) {
+        if (exploration < 0) {
+            throw new IllegalArgumentException("exploration must not be negative");
+        }
+        this.exploration = exploration;
+        return this;
+    }
+
+    public MctsPolicy withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public MctsPolicy withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    @Override
+    public Decision decide(Adventurer adventurer) {
+        List<Decision> legal = adventurer.legalDecisions();
+        if (legal.size() == 1) {
+            return legal.getFirst();
+        }
+        Map<Decision, Node> root = search(adventurer);
+        Decision best = legal.getFirst();
+        long mostVisits = -1;
+        for (Decision decision : legal) {
+            Node node = root.get(decision);
+            if (node != null && node.visits > mostVisits) {
+                best = decision;
+                mostVisits = node.visits;
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} chose {} from {}", adventurer.getName(), best, root);
+        }
+        return best;
+    }
+
+    // Root statistics of every decision, summed over all workers
+    Map<Decision, Node> search(Adventurer adventurer) {
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+
+        // Forking reads the rooms' copy-on-write state, so the workers' snapshots are taken here.
+        // Every fork of a snapshot has the adventurer in the same slot.
+        Maze.Slot slot = maze.slotOf(adventurer);
+        List<Future<Node>> workers = new ArrayList<>(parallelism);
+        ExecutorService pool = executor();
+        long firstStream = searches++ * parallelism;
+        for (int i = 0; i < parallelism; i++) {
+            Maze snapshot = maze.fork();
+            Random stream = new Random(WinRateEstimator.streamSeed(seed, firstStream + i));
+            workers.add(pool.submit(() -> Die.withStream(stream, () -> grow(snapshot, slot, deadline))));
+        }
+
+        Map<Decision, Node> root = new EnumMap<>(Decision.class);
+        try {
+            for (Future<Node> worker : workers) {
+                worker.get().children.forEach((decision, node) ->
+                        root.computeIfAbsent(decision, d -> new Node()).add(node));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A rollout failed", e.getCause());
+        }
+        return root;
+    }
+
+    private Node grow(Maze snapshot, Maze.Slot slot, long deadline) {
+        Node root = new Node();
+        for (int rollout = 0; rollout < maxRolloutsPerThread && System.nanoTime() < deadline; rollout++) {
+            Maze copy = snapshot.fork();
+            Adventurer player = (Adventurer) copy.getCharacter(slot);
+            List<Node> path = new ArrayList<>(treeDepth + 1);
+            path.add(root);
+            player.setDecisionPolicy(self -> select(path, self));
+
+            player.doAction();
+            double reward = playOut(copy);
+            for (Node node : path) {
+                node.visits++;
+                node.reward += reward;
+            }
+        }
+        return root;
+    }
+
+    // Descends one level per decision while inside the tree, adding a node the first time
+    private Decision select(List<Node> path, Adventurer self) {
+        if (path.size() > treeDepth) {
+            return self.defaultDecision();
+        }
+        Node parent = path.getLast();
+        Decision choice = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Decision decision : self.legalDecisions()) {
+            Node child = parent.children.get(decision);
+            if (child == null || child.visits == 0) {
+                choice = decision;
+                break;
+            }
+            double score = child.reward / child.visits
+                    + exploration * Math.sqrt(Math.log(parent.visits + 1) / child.visits);
+            if (score > bestScore) {
+                bestScore = score;
+                choice = decision;
+            }
+        }
+        path.add(parent.children.computeIfAbsent(choice, d -> new Node()));
+        return choice;
+    }
+
+    private double playOut(Maze copy) {
+        Polymorphia game = new Polymorphia(copy);
+        while (!game.isOver() && game.getTurnCount() < rolloutTurns) {
+            game.playTurn();
+        }
+        if (game.isOver()) {
+            return copy.hasLivingAdventurers() ? 1.0 : 0.0;
+        }
+        double adventurers = 0;
+        for (Adventurer adventurer : copy.getLivingAdventurers()) {
+            adventurers += adventurer.getHealth();
+        }
+        double creatures = 0;
+        for (Creature creature : copy.getLivingCreatures()) {
+            creatures += creature.getHealth();
+        }
+        return adventurers / (adventurers + creatures);
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "mcts-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    // Visit count and summed reward; the reward is the adventurers' chance to win
+    static final class Node {
+        final Map<Decision, Node> children = new EnumMap<>(Decision.class);
+        long visits;
+        double reward;
+
+        void add(Node other) {
+            visits += other.visits;
+            reward += other.reward;
+        }
+
+        double meanReward() {
+            return visits == 0 ? 0.0 : reward / visits;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f over %d", meanReward(), visits);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.ConvergenceDetector;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Statistics;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// Parallel counterpart of MonteCarloSimulation: every game is independent,
+// so they are simply spread over a fixed pool of worker threads. The pool is started by the
+// first run and kept for every run after it until the runner is closed.
+public class ParallelGameRunner implements AutoCloseable {
+    private final Supplier<Maze> mazeSupplier;
+    private Supplier<ConvergenceDetector> detectorSupplier = ConvergenceDetector::never;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private ExecutorService executor;
+
+    public ParallelGameRunner(Supplier<Maze> mazeSupplier) {
+        this.mazeSupplier = mazeSupplier;
+    }
+
+    public ParallelGameRunner withConvergenceDetector(Supplier<ConvergenceDetector> detectorSupplier) {
+        this.detectorSupplier = detectorSupplier;
+        return this;
+    }
+
+    public ParallelGameRunner withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        if (executor != null) {
+            throw new IllegalStateException("parallelism can only change before the first run");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public MonteCarloSimulation.Result run(int games) {
+        Tally tally = new Tally();
+        tally.addAll(playBatch(executor(), games));
+        return tally.toResult(false);
+    }
+
+    // Plays batches of games until the leading outcome is the majority winner at the given
+    // confidence. The check only happens between batches, so a few extra games may be played.
+    public MonteCarloSimulation.Result runUntilConfident(double confidence, int batchSize, int maxGames) {
+        if (batchSize <= 0 || maxGames < batchSize) {
+            throw new IllegalArgumentException("need 0 < batchSize <= maxGames");
+        }
+        double z = Statistics.zForConfidence(confidence);
+        ExecutorService executor = executor();
+        Tally tally = new Tally();
+        while (tally.games < maxGames) {
+            tally.addAll(playBatch(executor, Math.min(batchSize, maxGames - tally.games)));
+            if (MonteCarloSimulation.leaderIsCertain(tally.outcomes, tally.games, z)) {
+                return tally.toResult(true);
+            }
+        }
+        return tally.toResult(false);
+    }
+
+    private List<Polymorphia> playBatch(ExecutorService executor, int games) {
+        List<Future<Polymorphia>> futures = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            futures.add(executor.submit(this::playOneGame));
+        }
+
+        List<Polymorphia> finished = new ArrayList<>(games);
+        try {
+            for (Future<Polymorphia> future : futures) {
+                finished.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed", e.getCause());
+        }
+        return finished;
+    }
+
+    private Polymorphia playOneGame() {
+        Polymorphia game = new Polymorphia(mazeSupplier.get(), detectorSupplier.get());
+        game.play();
+        return game;
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "game-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static class Tally {
+        final Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+        int games = 0;
+        long turns = 0;
+
+        void addAll(List<Polymorphia> finished) {
+            for (Polymorphia game : finished) {
+                outcomes.merge(game.getOutcome(), 1, Integer::sum);
+                turns += game.getTurnCount();
+                games++;
+            }
+        }
+
+        MonteCarloSimulation.Result toResult(boolean stoppedEarly) {
+            return new MonteCarloSimulation.Result(outcomes, games, turns, stoppedEarly);
+        }
+    }
+}
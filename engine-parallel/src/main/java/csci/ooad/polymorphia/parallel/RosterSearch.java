@@ -0,0 +1,266 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.Die;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.MazeTopology;
+import csci.ooad.polymorphia.Polymorphia;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToDoubleFunction;
+
+// Looks for well balanced rosters by playing many games per game spec: either every spec of a
+// search space, or a genetic search through it. All games of all specs being evaluated go into one
+// pool as small chunks, so the cores stay busy until the last spec is done. Results are cached by
+// spec, so revisiting a roster costs nothing. Each batch of specs builds one grid topology per
+// shape and every maze of that shape in the batch is built on it. Game n of every spec plays on dice stream n, which makes specs directly
+// comparable (common random numbers) and the whole search repeatable for a given seed.
+public class RosterSearch {
+    private static final Logger logger = LoggerFactory.getLogger(RosterSearch.class);
+
+    private final Map<GameSpec, Evaluation> cache = new ConcurrentHashMap<>();
+    private GameOutcome outcome = GameOutcome.ADVENTURERS_WIN;
+    private int gamesPerEvaluation = 200;
+    private int gamesPerTask = 10;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long seed = System.nanoTime();
+
+    public RosterSearch withOutcome(GameOutcome outcome) {
+        this.outcome = outcome;
+        cache.clear();
+        return this;
+    }
+
+    public RosterSearch withGamesPerEvaluation(int gamesPerEvaluation) {
+        if (gamesPerEvaluation <= 0) {
+            throw new IllegalArgumentException("gamesPerEvaluation must be positive");
+        }
+        this.gamesPerEvaluation = gamesPerEvaluation;
+        cache.clear();
+        return this;
+    }
+
+    // Games per pool task; fewer means better balance, more means less scheduling overhead
+    public RosterSearch withGamesPerTask(int gamesPerTask) {
+        if (gamesPerTask <= 0) {
+            throw new IllegalArgumentException("gamesPerTask must be positive");
+        }
+        this.gamesPerTask = gamesPerTask;
+        return this;
+    }
+
+    public RosterSearch withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public RosterSearch withSeed(long seed) {
+        this.seed = seed;
+        cache.clear();
+        return this;
+    }
+
+    public Evaluation evaluate(GameSpec spec) {
+        return evaluateAll(List.of(spec)).getFirst();
+    }
+
+    // In the order given, duplicates included
+    public List<Evaluation> evaluateAll(Collection<GameSpec> specs) {
+        Set<GameSpec> missing = new LinkedHashSet<>();
+        for (GameSpec spec : specs) {
+            if (!cache.containsKey(spec)) {
+                missing.add(spec);
+            }
+        }
+        if (!missing.isEmpty()) {
+            play(missing);
+        }
+        List<Evaluation> evaluations = new ArrayList<>(specs.size());
+        for (GameSpec spec : specs) {
+            evaluations.add(cache.get(spec));
+        }
+        return evaluations;
+    }
+
+    private void play(Set<GameSpec> specs) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            Map<GameSpec, List<Future<Tally>>> chunks = new LinkedHashMap<>();
+            // Keyed by rows and cols packed into one long
+            Map<Long, MazeTopology> topologies = new HashMap<>();
+            for (GameSpec spec : specs) {
+                MazeTopology topology = topologies.computeIfAbsent(
+                        (long) spec.rows() << 32 | spec.cols(), shape -> spec.topology());
+                List<Future<Tally>> futures = new ArrayList<>();
+                for (int first = 0; first < gamesPerEvaluation; first += gamesPerTask) {
+                    int from = first;
+                    int to = Math.min(gamesPerEvaluation, first + gamesPerTask);
+                    futures.add(executor.submit(() -> playGames(spec, topology, from, to)));
+                }
+                chunks.put(spec, futures);
+            }
+            for (Map.Entry<GameSpec, List<Future<Tally>>> entry : chunks.entrySet()) {
+                Tally total = new Tally();
+                for (Future<Tally> chunk : entry.getValue()) {
+                    total.add(chunk.get());
+                }
+                cache.put(entry.getKey(), new Evaluation(entry.getKey(), (double) total.wins / total.games,
+                        (double) total.turns / total.games, total.games));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        logger.info("Evaluated {} specs, {} cached", specs.size(), cache.size());
+    }
+
+    private Tally playGames(GameSpec spec, MazeTopology topology, int from, int to) {
+        Tally tally = new Tally();
+        for (int game = from; game < to; game++) {
+            Polymorphia played = Die.withStream(new Random(WinRateEstimator.streamSeed(seed, game)), () -> {
+                Polymorphia polymorphia = new Polymorphia(spec.buildMaze(topology));
+                polymorphia.play();
+                return polymorphia;
+            });
+            tally.games++;
+            tally.turns += played.getTurnCount();
+            if (played.getOutcome() == outcome) {
+                tally.wins++;
+            }
+        }
+        return tally;
+    }
+
+    public List<Evaluation> gridSearch(SearchSpace space) {
+        return evaluateAll(space.grid());
+    }
+
+    // Evolves a population of specs towards higher fitness: the fitter half survives each
+    // generation and the rest is refilled with mutated crossovers of tournament winners.
+    // Returns every spec it evaluated, fittest first.
+    public List<Evaluation> geneticSearch(SearchSpace space, int populationSize, int generations,
+                                          ToDoubleFunction<Evaluation> fitness) {
+        if (populationSize < 2 || generations <= 0) {
+            throw new IllegalArgumentException("need populationSize >= 2 and generations > 0");
+        }
+        Random random = new Random(seed);
+        Comparator<Evaluation> fittestFirst = Comparator.comparingDouble(fitness).reversed();
+        Map<GameSpec, Evaluation> seen = new LinkedHashMap<>();
+
+        List<GameSpec> population = new ArrayList<>(populationSize);
+        for (int i = 0; i < populationSize; i++) {
+            population.add(space.randomSpec(random));
+        }
+        for (int generation = 0; generation < generations; generation++) {
+            List<Evaluation> ranked = new ArrayList<>(evaluateAll(population));
+            ranked.forEach(evaluation -> seen.put(evaluation.spec(), evaluation));
+            ranked.sort(fittestFirst);
+            logger.info("Generation {}: best {}", generation, ranked.getFirst());
+
+            List<GameSpec> next = new ArrayList<>(populationSize);
+            for (int i = 0; i < (populationSize + 1) / 2; i++) {
+                next.add(ranked.get(i).spec());
+            }
+            while (next.size() < populationSize) {
+                GameSpec mother = tournament(ranked, fittestFirst, random);
+                GameSpec father = tournament(ranked, fittestFirst, random);
+                next.add(mutate(space, crossover(mother, father, random), random));
+            }
+            population = next;
+        }
+        List<Evaluation> result = new ArrayList<>(seen.values());
+        result.sort(fittestFirst);
+        return result;
+    }
+
+    private static GameSpec tournament(List<Evaluation> ranked, Comparator<Evaluation> fittestFirst, Random random) {
+        Evaluation first = ranked.get(random.nextInt(ranked.size()));
+        Evaluation second = ranked.get(random.nextInt(ranked.size()));
+        return fittestFirst.compare(first, second) <= 0 ? first.spec() : second.spec();
+    }
+
+    private static int[] crossover(GameSpec mother, GameSpec father, Random random) {
+        int[] child = SearchSpace.genes(mother);
+        int[] fatherGenes = SearchSpace.genes(father);
+        for (int i = 0; i < child.length; i++) {
+            if (random.nextBoolean()) {
+                child[i] = fatherGenes[i];
+            }
+        }
+        return child;
+    }
+
+    // On average one parameter moves one step up or down
+    private static GameSpec mutate(SearchSpace space, int[] genes, Random random) {
+        for (int i = 0; i < genes.length; i++) {
+            if (random.nextInt(genes.length) == 0) {
+                genes[i] = space.clamp(i, genes[i] + (random.nextBoolean() ? 1 : -1));
+            }
+        }
+        return SearchSpace.spec(genes);
+    }
+
+    // Fitness for balancing: the closer the outcome's rate is to the target, the better
+    public static ToDoubleFunction<Evaluation> towardsWinRate(double target) {
+        return evaluation -> -Math.abs(evaluation.winRate() - target);
+    }
+
+    // The specs no other spec beats on both counts: a higher win rate and shorter games.
+    // Sorted by win rate, highest first.
+    public static List<Evaluation> paretoFront(Collection<Evaluation> evaluations) {
+        List<Evaluation> sorted = new ArrayList<>(evaluations);
+        sorted.sort(Comparator.comparingDouble(Evaluation::winRate).reversed()
+                .thenComparingDouble(Evaluation::averageTurns));
+        List<Evaluation> front = new ArrayList<>();
+        double shortestSoFar = Double.POSITIVE_INFINITY;
+        for (Evaluation evaluation : sorted) {
+            // Everything earlier wins at least as often, so it is only kept if its games are shorter
+            if (evaluation.averageTurns() < shortestSoFar) {
+                front.add(evaluation);
+                shortestSoFar = evaluation.averageTurns();
+            }
+        }
+        return front;
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    public record Evaluation(GameSpec spec, double winRate, double averageTurns, int games) {
+    }
+
+    private static class Tally {
+        int games = 0;
+        int wins = 0;
+        long turns = 0;
+
+        void add(Tally other) {
+            games += other.games;
+            wins += other.wins;
+            turns += other.turns;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package csci.ooad.polymorphia.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Every game spec between two corners, parameter by parameter, whichever way round they are
+// given. The demon flag is searched too when the corners disagree on it.
+public record SearchSpace(GameSpec lower, GameSpec upper) {
+    static final int PARAMETERS = 9;
+    private static final int DEMON = 7;
+
+    // The order of GameSpec's components; the demon flag is 0 or 1
+    static int[] genes(GameSpec spec) {
+        return new int[]{spec.rows(), spec.cols(), spec.knights(), spec.cowards(), spec.gluttons(),
+                spec.regular(), spec.creatures(), spec.demon() ? 1 : 0, spec.food()};
+    }
+
+    static GameSpec spec(int[] genes) {
+        return new GameSpec(genes[0], genes[1], genes[2], genes[3], genes[4], genes[5], genes[6],
+                genes[DEMON] == 1, genes[8]);
+    }
+
+    int min(int parameter) {
+        return Math.min(genes(lower)[parameter], genes(upper)[parameter]);
+    }
+
+    int max(int parameter) {
+        return Math.max(genes(lower)[parameter], genes(upper)[parameter]);
+    }
+
+    public long size() {
+        long size = 1;
+        for (int i = 0; i < PARAMETERS; i++) {
+            size = Math.multiplyExact(size, max(i) - min(i) + 1);
+        }
+        return size;
+    }
+
+    // Every spec in the space, so keep the ranges small
+    public List<GameSpec> grid() {
+        if (size() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("the space has too many points to enumerate");
+        }
+        List<GameSpec> specs = new ArrayList<>((int) size());
+        int[] genes = genes(lower);
+        for (int i = 0; i < PARAMETERS; i++) {
+            genes[i] = min(i);
+        }
+        while (true) {
+            specs.add(spec(genes));
+            int i = 0;
+            while (i < PARAMETERS && genes[i] == max(i)) {
+                genes[i] = min(i);
+                i++;
+            }
+            if (i == PARAMETERS) {
+                return specs;
+            }
+            genes[i]++;
+        }
+    }
+
+    GameSpec randomSpec(Random random) {
+        int[] genes = new int[PARAMETERS];
+        for (int i = 0; i < PARAMETERS; i++) {
+            genes[i] = min(i) + random.nextInt(max(i) - min(i) + 1);
+        }
+        return spec(genes);
+    }
+
+    int clamp(int parameter, int value) {
+        return Math.max(min(parameter), Math.min(max(parameter), value));
+    }
+}
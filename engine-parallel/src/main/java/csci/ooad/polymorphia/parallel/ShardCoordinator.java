@@ -0,0 +1,172 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Spreads independent games over several worker JVMs on this machine, so a tournament is no
+// longer limited to one heap. Workers connect back over loopback sockets and keep asking for
+// batches until every game has been handed out; the coordinator adds up their tallies.
+public class ShardCoordinator {
+    private static final Logger logger = LoggerFactory.getLogger(ShardCoordinator.class);
+
+    static final int PROTOCOL_MAGIC = 0x504D5348;
+    static final int CONNECT_TIMEOUT_MILLIS = 60_000;
+
+    private final GameSpec spec;
+    private int workers = 2;
+    private int threadsPerWorker = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int batchSize = 100;
+    private WorkerLauncher launcher = WorkerLauncher.localProcesses();
+
+    public ShardCoordinator(GameSpec spec) {
+        this.spec = spec;
+    }
+
+    public ShardCoordinator withWorkers(int workers, int threadsPerWorker) {
+        if (workers <= 0 || threadsPerWorker <= 0) {
+            throw new IllegalArgumentException("workers and threadsPerWorker must be positive");
+        }
+        this.workers = workers;
+        this.threadsPerWorker = threadsPerWorker;
+        return this;
+    }
+
+    // Smaller batches balance the load better, larger ones cost fewer round trips
+    public ShardCoordinator withBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public ShardCoordinator withLauncher(WorkerLauncher launcher) {
+        this.launcher = launcher;
+        return this;
+    }
+
+    public MonteCarloSimulation.Result run(int games) {
+        if (games <= 0) {
+            throw new IllegalArgumentException("games must be positive");
+        }
+        AtomicInteger unassigned = new AtomicInteger(games);
+        Tally tally = new Tally();
+        List<AutoCloseable> launched = new ArrayList<>();
+        ExecutorService connections = Executors.newFixedThreadPool(workers);
+
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(CONNECT_TIMEOUT_MILLIS);
+            for (int i = 0; i < workers; i++) {
+                launched.add(launcher.launch(i, server.getLocalPort()));
+            }
+
+            List<Future<?>> served = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                Socket socket = server.accept();
+                served.add(connections.submit(() -> serveWorker(socket, unassigned, tally)));
+            }
+            for (Future<?> worker : served) {
+                worker.get();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not coordinate the workers", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A worker failed", e.getCause());
+        } finally {
+            connections.shutdownNow();
+            closeAll(launched);
+        }
+
+        logger.info("{} workers played {} games", workers, tally.games);
+        return tally.toResult();
+    }
+
+    private Void serveWorker(Socket socket, AtomicInteger unassigned, Tally tally) throws IOException {
+        try (socket) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            if (in.readInt() != PROTOCOL_MAGIC) {
+                throw new IOException("Unexpected connection on the coordinator port");
+            }
+            out.writeUTF(spec.encode());
+            out.writeInt(threadsPerWorker);
+
+            int batch;
+            while ((batch = claimBatch(unassigned)) > 0) {
+                out.writeInt(batch);
+                out.flush();
+                Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+                for (GameOutcome outcome : GameOutcome.values()) {
+                    int count = in.readInt();
+                    if (count > 0) {
+                        outcomes.put(outcome, count);
+                    }
+                }
+                tally.add(outcomes, batch, in.readLong());
+            }
+            out.writeInt(0);
+            out.flush();
+        }
+        return null;
+    }
+
+    private int claimBatch(AtomicInteger unassigned) {
+        int remaining;
+        int batch;
+        do {
+            remaining = unassigned.get();
+            batch = Math.min(batchSize, remaining);
+        } while (batch > 0 && !unassigned.compareAndSet(remaining, remaining - batch));
+        return batch;
+    }
+
+    private static void closeAll(List<AutoCloseable> launched) {
+        for (AutoCloseable worker : launched) {
+            try {
+                worker.close();
+            } catch (Exception e) {
+                logger.warn("A worker did not shut down cleanly", e);
+            }
+        }
+    }
+
+    private static class Tally {
+        final Map<GameOutcome, Integer> outcomes = new EnumMap<>(GameOutcome.class);
+        int games = 0;
+        long turns = 0;
+
+        synchronized void add(Map<GameOutcome, Integer> batchOutcomes, int batchGames, long batchTurns) {
+            batchOutcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Integer::sum));
+            games += batchGames;
+            turns += batchTurns;
+        }
+
+        synchronized MonteCarloSimulation.Result toResult() {
+            return new MonteCarloSimulation.Result(new EnumMap<>(outcomes), games, turns, false);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.MazeTopology;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+// One worker process of a ShardCoordinator. It receives the game spec once and then plays
+// batches of games until it is sent a batch of zero, answering each batch with its tally.
+// The grid and the thread pool are built once and kept for every batch.
+public class ShardWorker {
+
+    public static void main(String[] args) {
+        int port = Integer.parseInt(args[0]);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            serve(new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static void serve(DataInputStream in, DataOutputStream out) throws IOException {
+        out.writeInt(ShardCoordinator.PROTOCOL_MAGIC);
+        out.flush();
+        GameSpec spec = GameSpec.parse(in.readUTF());
+        MazeTopology topology = spec.topology();
+        try (ParallelGameRunner runner = new ParallelGameRunner(() -> spec.buildMaze(topology))
+                .withParallelism(in.readInt())) {
+            int games;
+            while ((games = in.readInt()) > 0) {
+                MonteCarloSimulation.Result result = runner.run(games);
+                for (GameOutcome outcome : GameOutcome.values()) {
+                    out.writeInt(result.outcomes().getOrDefault(outcome, 0));
+                }
+                out.writeLong(result.totalTurns());
+                out.flush();
+            }
+        }
+    }
+}
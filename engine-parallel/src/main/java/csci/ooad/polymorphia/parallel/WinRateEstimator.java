@@ -0,0 +1,219 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.AntitheticRandom;
+import csci.ooad.polymorphia.Die;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+// Estimates how often an outcome happens to within a requested confidence interval, with as few
+// games as it can get away with. Every sample plays from its own seeded dice stream:
+//  - antithetic pairs play the stream and its mirror image and average the two games,
+//  - compare() plays both configurations on the same streams (common random numbers), so only
+//    the difference between them is left as noise,
+//  - sampling stops at the first batch whose interval is narrow enough. The interval adds
+//    Agresti-Coull pseudo-samples at both ends of the score range, so a first batch in which a
+//    rare outcome never happened does not pass for an exact answer.
+// Samples are numbered and seeded by their number, so the estimate does not depend on threading.
+public class WinRateEstimator {
+    private static final Logger logger = LoggerFactory.getLogger(WinRateEstimator.class);
+
+    private final Supplier<Maze> mazeSupplier;
+    private GameOutcome outcome = GameOutcome.ADVENTURERS_WIN;
+    private double confidence = 0.95;
+    private double targetHalfWidth = 0.02;
+    private int minSamples = 30;
+    private int maxSamples = 100_000;
+    private int batchSize = 64;
+    private boolean antithetic = true;
+    private long seed = System.nanoTime();
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    public WinRateEstimator(Supplier<Maze> mazeSupplier) {
+        this.mazeSupplier = mazeSupplier;
+    }
+
+    public WinRateEstimator withOutcome(GameOutcome outcome) {
+        this.outcome = outcome;
+        return this;
+    }
+
+    // Sampling stops once the interval at this confidence is at most +/- targetHalfWidth
+    public WinRateEstimator withPrecision(double confidence, double targetHalfWidth) {
+        Statistics.zForConfidence(confidence);  // validates the range
+        if (targetHalfWidth <= 0) {
+            throw new IllegalArgumentException("targetHalfWidth must be positive");
+        }
+        this.confidence = confidence;
+        this.targetHalfWidth = targetHalfWidth;
+        return this;
+    }
+
+    // A sample is one game, or one antithetic pair of games
+    public WinRateEstimator withSampleLimits(int minSamples, int maxSamples) {
+        if (minSamples <= 1 || maxSamples < minSamples) {
+            throw new IllegalArgumentException("need 1 < minSamples <= maxSamples");
+        }
+        this.minSamples = minSamples;
+        this.maxSamples = maxSamples;
+        return this;
+    }
+
+    public WinRateEstimator withBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public WinRateEstimator withAntitheticPairs(boolean antithetic) {
+        this.antithetic = antithetic;
+        return this;
+    }
+
+    public WinRateEstimator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public WinRateEstimator withParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Estimate estimate() {
+        Estimate estimate = sample(index -> score(mazeSupplier, index), 0.0, 1.0);
+        logger.info("{} rate {} +/- {} after {} games", outcome, estimate.mean(), estimate.halfWidth(), estimate.games());
+        return estimate;
+    }
+
+    // How much more often the outcome happens with this estimator's mazes than with the other ones
+    public Estimate compare(Supplier<Maze> otherMazeSupplier) {
+        Estimate difference = sample(index -> score(mazeSupplier, index) - score(otherMazeSupplier, index), -1.0, 1.0);
+        return new Estimate(difference.mean(), difference.halfWidth(), difference.samples(),
+                2 * difference.games(), difference.converged());
+    }
+
+    // Every sample lies in [lowest, highest]
+    private Estimate sample(Sampler sampler, double lowest, double highest) {
+        double z = Statistics.zForConfidence(confidence);
+        int gamesPerSample = antithetic ? 2 : 1;
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            // Welford's running mean and variance of the samples
+            long samples = 0;
+            double mean = 0;
+            double squaredDeviations = 0;
+            while (samples < maxSamples) {
+                int batch = (int) Math.min(batchSize, maxSamples - samples);
+                for (double value : playBatch(executor, sampler, samples, batch)) {
+                    samples++;
+                    double delta = value - mean;
+                    mean += delta / samples;
+                    squaredDeviations += delta * (value - mean);
+                }
+                double halfWidth = halfWidth(z, samples, mean, squaredDeviations, lowest, highest);
+                if (samples >= minSamples && halfWidth <= targetHalfWidth) {
+                    return new Estimate(mean, halfWidth, samples, samples * gamesPerSample, true);
+                }
+            }
+            double halfWidth = halfWidth(z, samples, mean, squaredDeviations, lowest, highest);
+            return new Estimate(mean, halfWidth, samples, samples * gamesPerSample, false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // Normal interval of the samples plus z^2 / 2 pseudo-samples at each end of the range. For
+    // 0/1 scores this is the Agresti-Coull interval; it never has zero width.
+    static double halfWidth(double z, long samples, double mean, double squaredDeviations,
+                            double lowest, double highest) {
+        double pseudoSamples = z * z / 2;
+        double total = samples + 2 * pseudoSamples;
+        double adjustedMean = (samples * mean + pseudoSamples * (lowest + highest)) / total;
+        double adjustedDeviations = squaredDeviations
+                + samples * (mean - adjustedMean) * (mean - adjustedMean)
+                + pseudoSamples * ((lowest - adjustedMean) * (lowest - adjustedMean)
+                + (highest - adjustedMean) * (highest - adjustedMean));
+        return z * Math.sqrt(adjustedDeviations / (total - 1) / total);
+    }
+
+    private List<Double> playBatch(ExecutorService executor, Sampler sampler, long firstIndex, int count) {
+        List<Future<Double>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long index = firstIndex + i;
+            futures.add(executor.submit(() -> sampler.sample(index)));
+        }
+        List<Double> values = new ArrayList<>(count);
+        try {
+            for (Future<Double> future : futures) {
+                values.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for games", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game failed", e.getCause());
+        }
+        return values;
+    }
+
+    // 1 if the outcome happened, 0 if not; the average of both games for an antithetic pair
+    private double score(Supplier<Maze> mazes, long index) {
+        long streamSeed = streamSeed(seed, index);
+        double score = play(mazes, new Random(streamSeed));
+        if (antithetic) {
+            score = (score + play(mazes, new AntitheticRandom(streamSeed))) / 2;
+        }
+        return score;
+    }
+
+    private double play(Supplier<Maze> mazes, Random stream) {
+        return Die.withStream(stream, () -> {
+            Polymorphia game = new Polymorphia(mazes.get());
+            game.play();
+            return game.getOutcome() == outcome ? 1.0 : 0.0;
+        });
+    }
+
+    // SplitMix64, so neighbouring sample numbers get unrelated streams
+    static long streamSeed(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @FunctionalInterface
+    private interface Sampler {
+        double sample(long index);
+    }
+
+    // mean +/- halfWidth at the requested confidence; converged is false if maxSamples ran out first
+    public record Estimate(double mean, double halfWidth, long samples, long games, boolean converged) {
+
+        public double lower() {
+            return mean - halfWidth;
+        }
+
+        public double upper() {
+            return mean + halfWidth;
+        }
+    }
+}
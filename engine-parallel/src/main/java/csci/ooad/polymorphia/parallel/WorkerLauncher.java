@@ -0,0 +1,45 @@
+package csci.ooad.polymorphia.parallel;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Starts one shard worker that connects back to the coordinator on the given loopback port.
+// Closing the returned handle waits for the worker to exit.
+@FunctionalInterface
+public interface WorkerLauncher {
+
+    AutoCloseable launch(int workerId, int port) throws IOException;
+
+    // A separate JVM per worker, each with its own heap, on this JVM's class path
+    static WorkerLauncher localProcesses(String... jvmArgs) {
+        return (workerId, port) -> {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(List.of(jvmArgs));
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ShardWorker.class.getName());
+            command.add(String.valueOf(port));
+            Process process = new ProcessBuilder(command).inheritIO().start();
+            return () -> {
+                if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            };
+        };
+    }
+
+    // Workers on threads of this JVM, talking over the same sockets; handy for tests and debugging
+    static WorkerLauncher inProcess() {
+        return (workerId, port) -> {
+            Thread thread = new Thread(() -> ShardWorker.main(new String[]{String.valueOf(port)}),
+                    "shard-worker-" + workerId);
+            thread.setDaemon(true);
+            thread.start();
+            return () -> thread.join(TimeUnit.SECONDS.toMillis(30));
+        };
+    }
+}
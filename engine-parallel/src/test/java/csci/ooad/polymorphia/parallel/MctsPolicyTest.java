@@ -0,0 +1,126 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.Food;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.Polymorphia;
+import csci.ooad.polymorphia.characters.Adventurer;
+import csci.ooad.polymorphia.characters.Coward;
+import csci.ooad.polymorphia.characters.Creature;
+import csci.ooad.polymorphia.characters.Decision;
+import csci.ooad.polymorphia.characters.Demon;
+import csci.ooad.polymorphia.characters.Knight;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsPolicyTest {
+
+    @Test
+    void testOnlyLegalDecisionSkipsTheSearch() {
+        Adventurer bill = new Adventurer("Bill");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(1, 2)
+                .placeObjectIntoRoom(bill, "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 2")
+                .build();
+
+        try (MctsPolicy policy = new MctsPolicy(maze)) {
+            assertEquals(List.of(Decision.MOVE), bill.legalDecisions());
+            assertEquals(Decision.MOVE, policy.decide(bill));
+        }
+    }
+
+    @Test
+    void testCowardNextToADemonIsNeverSentAway() {
+        Coward coward = new Coward("Scaredy");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(1, 2)
+                .placeObjectIntoRoom(coward, "Room 1")
+                .placeObjectIntoRoom(new Demon("Balrog"), "Room 1")
+                .placeObjectIntoRoom(new Food("Pie"), "Room 1")
+                .build();
+
+        try (MctsPolicy policy = new MctsPolicy(maze)) {
+            assertEquals(Decision.FIGHT, policy.decide(coward));
+        }
+    }
+
+    @Test
+    void testWorkersRollTheirOwnSeededDice() {
+        Map<Decision, MctsPolicy.Node> first = seededSearch();
+        Map<Decision, MctsPolicy.Node> second = seededSearch();
+
+        assertEquals(first.keySet(), second.keySet());
+        first.forEach((decision, node) -> {
+            assertEquals(node.visits, second.get(decision).visits);
+            assertEquals(node.reward, second.get(decision).reward);
+        });
+    }
+
+    // Capped by rollouts rather than time, so the same seed replays the same search
+    private static Map<Decision, MctsPolicy.Node> seededSearch() {
+        Knight galahad = new Knight("Galahad");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(galahad, "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 1")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 1")
+                .placeObjectIntoRoom(new Creature("Troll"), "Room 4")
+                .build();
+        try (MctsPolicy policy = new MctsPolicy(maze)
+                .withSeed(5)
+                .withParallelism(3)
+                .withMaxRolloutsPerThread(40)
+                .withTimeBudget(Duration.ofMinutes(1))) {
+            return policy.search(galahad);
+        }
+    }
+
+    @Test
+    void testSearchExploresEveryLegalDecision() {
+        Knight galahad = new Knight("Galahad");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(galahad, "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 1")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 1")
+                .build();
+
+        try (MctsPolicy policy = new MctsPolicy(maze).withParallelism(2).withMaxRolloutsPerThread(60)
+                .withTimeBudget(Duration.ofSeconds(5))) {
+            Map<Decision, MctsPolicy.Node> root = policy.search(galahad);
+
+            assertEquals(3, root.size());
+            assertEquals(120, root.values().stream().mapToLong(node -> node.visits).sum());
+            root.values().forEach(node -> assertTrue(node.meanReward() >= 0 && node.meanReward() <= 1));
+        }
+        // The search only ever touched forks
+        assertEquals(8.0, galahad.getHealth());
+        assertTrue(maze.getRooms().getFirst().hasFood());
+    }
+
+    @Test
+    void testPolicyPlaysAWholeGame() {
+        Knight galahad = new Knight("Galahad");
+        Maze maze = Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .placeObjectIntoRoom(galahad, "Room 1")
+                .placeObjectIntoRoom(new Creature("Ogre"), "Room 2")
+                .placeObjectIntoRoom(new Food("Cake"), "Room 3")
+                .build();
+
+        try (MctsPolicy policy = new MctsPolicy(maze).withParallelism(2).withMaxRolloutsPerThread(20)) {
+            galahad.setDecisionPolicy(policy);
+            Polymorphia game = new Polymorphia(maze);
+            game.play();
+
+            assertNotNull(game.getOutcome());
+            assertNotEquals(GameOutcome.STALEMATE, game.getOutcome());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.CertainOutcomeDetector;
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelGameRunnerTest {
+
+    private static Maze smallMaze() {
+        return Maze.newBuilder()
+                .createNbyMGrid(3, 3)
+                .distributeSequentially()
+                .createAndAddAdventurers(2)
+                .createAndAddCreatures(4, true)
+                .createAndAddFoodItems(10)
+                .build();
+    }
+
+    @Test
+    void testRunPlaysEveryGame() {
+        MonteCarloSimulation.Result result;
+        try (ParallelGameRunner runner = new ParallelGameRunner(ParallelGameRunnerTest::smallMaze)
+                .withParallelism(4)) {
+            result = runner.run(40);
+        }
+
+        assertEquals(40, result.gamesPlayed());
+        assertEquals(40, result.outcomes().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(result.getAverageTurns() > 0);
+    }
+
+    @Test
+    void testPoolIsKeptAcrossRuns() {
+        try (ParallelGameRunner runner = new ParallelGameRunner(ParallelGameRunnerTest::smallMaze)
+                .withParallelism(2)) {
+            assertEquals(10, runner.run(10).gamesPlayed());
+            assertEquals(10, runner.run(10).gamesPlayed());
+            assertThrows(IllegalStateException.class, () -> runner.withParallelism(4));
+        }
+    }
+
+    @Test
+    void testRunUntilConfidentStopsEarly() {
+        MonteCarloSimulation.Result result;
+        try (ParallelGameRunner runner = new ParallelGameRunner(() -> Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .distributeSequentially()
+                .createAndAddAdventurers(0, 1, 0, 0)
+                .createAndAddCreatures(2, false)
+                .build())
+                .withConvergenceDetector(CertainOutcomeDetector::new)
+                .withParallelism(2)) {
+            result = runner.runUntilConfident(0.95, 10, 1000);
+        }
+
+        assertTrue(result.stoppedEarly());
+        assertEquals(GameOutcome.CREATURES_WIN, result.getLeader());
+    }
+}
@@ -0,0 +1,66 @@
+package csci.ooad.polymorphia.parallel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RosterSearchTest {
+
+    private static final SearchSpace KNIGHTS_AND_CREATURES = new SearchSpace(
+            new GameSpec(2, 2, 0, 1, 0, 0, 1, false, 2),
+            new GameSpec(2, 2, 3, 1, 0, 0, 4, false, 2));
+
+    @Test
+    void testGridSearchEvaluatesEverySpecOnce() {
+        RosterSearch search = new RosterSearch().withSeed(3).withGamesPerEvaluation(20).withParallelism(4);
+
+        List<RosterSearch.Evaluation> evaluations = search.gridSearch(KNIGHTS_AND_CREATURES);
+
+        assertEquals(16, KNIGHTS_AND_CREATURES.size());
+        assertEquals(16, evaluations.size());
+        assertEquals(16, search.getCacheSize());
+        evaluations.forEach(evaluation -> assertEquals(20, evaluation.games()));
+
+        // A second search is answered from the cache
+        assertSame(evaluations.getFirst(), search.evaluate(evaluations.getFirst().spec()));
+        assertEquals(16, search.getCacheSize());
+    }
+
+    @Test
+    void testMoreKnightsWinMoreOften() {
+        RosterSearch search = new RosterSearch().withSeed(5).withGamesPerEvaluation(60);
+
+        double lone = search.evaluate(new GameSpec(2, 2, 0, 1, 0, 0, 4, false, 2)).winRate();
+        double escorted = search.evaluate(new GameSpec(2, 2, 3, 1, 0, 0, 4, false, 2)).winRate();
+
+        assertTrue(escorted > lone);
+    }
+
+    @Test
+    void testGeneticSearchStaysInsideTheSpace() {
+        RosterSearch search = new RosterSearch().withSeed(9).withGamesPerEvaluation(10);
+
+        List<RosterSearch.Evaluation> evaluations = search.geneticSearch(KNIGHTS_AND_CREATURES, 6, 4,
+                RosterSearch.towardsWinRate(0.5));
+
+        assertFalse(evaluations.isEmpty());
+        for (RosterSearch.Evaluation evaluation : evaluations) {
+            assertTrue(evaluation.spec().knights() <= 3);
+            assertTrue(evaluation.spec().creatures() >= 1 && evaluation.spec().creatures() <= 4);
+        }
+        double best = Math.abs(evaluations.getFirst().winRate() - 0.5);
+        evaluations.forEach(evaluation -> assertTrue(Math.abs(evaluation.winRate() - 0.5) >= best));
+    }
+
+    @Test
+    void testParetoFrontDropsDominatedSpecs() {
+        GameSpec spec = new GameSpec(1, 1, 0, 0, 0, 0, 0, false, 0);
+        RosterSearch.Evaluation fast = new RosterSearch.Evaluation(spec, 0.4, 5, 10);
+        RosterSearch.Evaluation strong = new RosterSearch.Evaluation(spec, 0.9, 20, 10);
+        RosterSearch.Evaluation dominated = new RosterSearch.Evaluation(spec, 0.3, 25, 10);
+
+        assertEquals(List.of(strong, fast), RosterSearch.paretoFront(List.of(fast, dominated, strong)));
+    }
+}
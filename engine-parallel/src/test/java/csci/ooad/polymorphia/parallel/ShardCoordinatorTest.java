@@ -0,0 +1,62 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardCoordinatorTest {
+
+    private static final GameSpec SMALL_GAME = new GameSpec(3, 3, 1, 1, 1, 1, 4, true, 10);
+
+    @Test
+    void testSpecSurvivesTheTextForm() {
+        assertEquals(SMALL_GAME, GameSpec.parse(SMALL_GAME.encode()));
+        assertThrows(IllegalArgumentException.class, () -> GameSpec.parse("rows=3 cols=3"));
+        assertThrows(IllegalArgumentException.class, () -> new GameSpec(0, 3, 1, 1, 1, 1, 4, true, 10));
+        assertEquals(9, SMALL_GAME.buildMaze().size());
+    }
+
+    @Test
+    void testEveryGameIsPlayedExactlyOnce() {
+        MonteCarloSimulation.Result result = new ShardCoordinator(SMALL_GAME)
+                .withWorkers(3, 2)
+                .withBatchSize(7)
+                .withLauncher(WorkerLauncher.inProcess())
+                .run(50);
+
+        assertEquals(50, result.gamesPlayed());
+        assertEquals(50, result.outcomes().values().stream().mapToInt(Integer::intValue).sum());
+        assertTrue(result.getAverageTurns() > 0);
+    }
+
+    @Test
+    void testWorkersInSeparateProcesses() {
+        MonteCarloSimulation.Result result = new ShardCoordinator(SMALL_GAME)
+                .withWorkers(2, 1)
+                .withBatchSize(5)
+                .withLauncher(WorkerLauncher.localProcesses("-Xmx64m"))
+                .run(20);
+
+        assertEquals(20, result.gamesPlayed());
+        Map<GameOutcome, Integer> outcomes = result.outcomes();
+        assertEquals(20, outcomes.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void testFailingWorkerFailsTheRun() {
+        ShardCoordinator coordinator = new ShardCoordinator(SMALL_GAME)
+                .withWorkers(1, 1)
+                .withLauncher((workerId, port) -> {
+                    throw new IOException("no JVM for you");
+                });
+
+        assertThrows(UncheckedIOException.class, () -> coordinator.run(10));
+        assertThrows(IllegalArgumentException.class, () -> coordinator.run(0));
+    }
+}
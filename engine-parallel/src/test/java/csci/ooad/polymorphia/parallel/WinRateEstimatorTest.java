@@ -0,0 +1,98 @@
+package csci.ooad.polymorphia.parallel;
+
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WinRateEstimatorTest {
+
+    private static Maze smallMaze() {
+        return Maze.newBuilder()
+                .createNbyMGrid(2, 2)
+                .createAndAddAdventurers(1, 1, 1, 1)
+                .createAndAddCreatures(3, true)
+                .createAndAddFoodItems(4)
+                .build();
+    }
+
+    @Test
+    void testSameSeedGivesTheSameEstimateOnAnyNumberOfThreads() {
+        WinRateEstimator.Estimate oneThread = new WinRateEstimator(WinRateEstimatorTest::smallMaze)
+                .withSeed(7).withParallelism(1).withSampleLimits(40, 40)
+                .estimate();
+        WinRateEstimator.Estimate fourThreads = new WinRateEstimator(WinRateEstimatorTest::smallMaze)
+                .withSeed(7).withParallelism(4).withBatchSize(7).withSampleLimits(40, 40)
+                .estimate();
+
+        assertEquals(oneThread.mean(), fourThreads.mean());
+        assertEquals(80, fourThreads.games());
+    }
+
+    @Test
+    void testStopsOnceTheIntervalIsNarrowEnough() {
+        WinRateEstimator.Estimate estimate = new WinRateEstimator(WinRateEstimatorTest::smallMaze)
+                .withPrecision(0.95, 0.1)
+                .withSampleLimits(10, 10_000)
+                .withBatchSize(16)
+                .estimate();
+
+        assertTrue(estimate.converged());
+        assertTrue(estimate.halfWidth() <= 0.1);
+        assertTrue(estimate.lower() <= estimate.mean() && estimate.mean() <= estimate.upper());
+        assertTrue(estimate.samples() < 10_000);
+    }
+
+    @Test
+    void testCommonRandomNumbersCancelOutIdenticalConfigurations() {
+        WinRateEstimator.Estimate difference = new WinRateEstimator(WinRateEstimatorTest::smallMaze)
+                .withSampleLimits(20, 1000)
+                .withBatchSize(20)
+                .compare(WinRateEstimatorTest::smallMaze);
+
+        // Both sides play every sample on the same dice, so they agree game for game
+        assertEquals(0.0, difference.mean());
+        assertTrue(difference.converged());
+        assertTrue(difference.halfWidth() > 0 && difference.halfWidth() <= 0.02);
+        assertTrue(difference.samples() < 1000);
+    }
+
+    @Test
+    void testABatchWithoutASingleWinIsNotAnExactAnswer() {
+        // Nobody for the adventurers to fight, so the creatures never win
+        WinRateEstimator.Estimate estimate = new WinRateEstimator(() -> Maze.newBuilder()
+                .createNbyMGrid(1, 1)
+                .createAndAddAdventurers(1, 0, 0, 0)
+                .build())
+                .withOutcome(GameOutcome.CREATURES_WIN)
+                .withSampleLimits(30, 10_000)
+                .withBatchSize(64)
+                .estimate();
+
+        assertEquals(0.0, estimate.mean());
+        assertTrue(estimate.samples() > 64, "stopped after " + estimate.samples() + " samples");
+        assertTrue(estimate.halfWidth() > 0 && estimate.halfWidth() <= 0.02);
+    }
+
+    @Test
+    void testIntervalMatchesAgrestiCoullForWinsAndLosses() {
+        // 3 wins in 40 games: p~ = (3 + 1.92) / 43.84
+        double z = 1.96;
+        double mean = 3 / 40.0;
+        double squaredDeviations = 40 * mean * (1 - mean);
+        double adjusted = (3 + z * z / 2) / (40 + z * z);
+
+        double expected = z * Math.sqrt(adjusted * (1 - adjusted) / (40 + z * z));
+        assertEquals(expected, WinRateEstimator.halfWidth(z, 40, mean, squaredDeviations, 0, 1), 0.002);
+    }
+
+    @Test
+    void testRejectsBadSettings() {
+        WinRateEstimator estimator = new WinRateEstimator(WinRateEstimatorTest::smallMaze);
+
+        assertThrows(IllegalArgumentException.class, () -> estimator.withPrecision(0.95, 0));
+        assertThrows(IllegalArgumentException.class, () -> estimator.withSampleLimits(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> estimator.withParallelism(0));
+    }
+}
@@ -0,0 +1,99 @@
+package csci.ooad.polymorphia.perf;
+
+import csci.ooad.polymorphia.GameOutcome;
+import csci.ooad.polymorphia.Maze;
+import csci.ooad.polymorphia.MazeTopology;
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import csci.ooad.polymorphia.parallel.ParallelGameRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// A repeatable batch of games used to compare releases. Arguments are key=value pairs, e.g.
+//   games=5000 rows=10 cols=10 knights=2 cowards=2 gluttons=2 regular=4 creatures=8 demon=true food=20 threads=8
+public class LoadProfile {
+    private static final Logger logger = LoggerFactory.getLogger(LoadProfile.class);
+
+    static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("games", "2000"),
+            Map.entry("rows", "5"),
+            Map.entry("cols", "5"),
+            Map.entry("knights", "2"),
+            Map.entry("cowards", "2"),
+            Map.entry("gluttons", "2"),
+            Map.entry("regular", "4"),
+            Map.entry("creatures", "8"),
+            Map.entry("demon", "true"),
+            Map.entry("food", "20"),
+            Map.entry("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+    private final Map<String, String> settings;
+    // Every game of the profile is played on this one grid
+    private final MazeTopology topology;
+
+    public LoadProfile(Map<String, String> overrides) {
+        Set<String> unknown = new HashSet<>(overrides.keySet());
+        unknown.removeAll(DEFAULTS.keySet());
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown load profile settings: " + unknown);
+        }
+        this.settings = new HashMap<>(DEFAULTS);
+        this.settings.putAll(overrides);
+        this.topology = MazeTopology.grid(intSetting("rows"), intSetting("cols"));
+    }
+
+    public static void main(String[] args) {
+        new LoadProfile(parse(args)).run();
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> overrides = new HashMap<>();
+        for (String arg : args) {
+            String[] keyAndValue = arg.split("=", 2);
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            overrides.put(keyAndValue[0], keyAndValue[1]);
+        }
+        return overrides;
+    }
+
+    public MonteCarloSimulation.Result run() {
+        logger.info("Load profile: {}", settings);
+        long start = System.nanoTime();
+        MonteCarloSimulation.Result result;
+        try (ParallelGameRunner runner = new ParallelGameRunner(this::buildMaze)
+                .withParallelism(intSetting("threads"))) {
+            result = runner.run(intSetting("games"));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        logger.info("Played {} games ({} turns) in {} s: {} games/s, {} turns/s",
+                result.gamesPlayed(), result.totalTurns(), String.format("%.2f", seconds),
+                String.format("%.1f", result.gamesPlayed() / seconds),
+                String.format("%.1f", result.totalTurns() / seconds));
+        for (GameOutcome outcome : GameOutcome.values()) {
+            logger.info("  {}: {}", outcome, String.format("%.3f", result.getWinRate(outcome)));
+        }
+        return result;
+    }
+
+    Maze buildMaze() {
+        return Maze.newBuilder()
+                .useTopology(topology)
+                .distributeRandomly()
+                .createAndAddAdventurers(intSetting("knights"), intSetting("cowards"),
+                        intSetting("gluttons"), intSetting("regular"))
+                .createAndAddCreatures(intSetting("creatures"), Boolean.parseBoolean(settings.get("demon")))
+                .createAndAddFoodItems(intSetting("food"))
+                .build();
+    }
+
+    private int intSetting(String key) {
+        return Integer.parseInt(settings.get(key));
+    }
+}
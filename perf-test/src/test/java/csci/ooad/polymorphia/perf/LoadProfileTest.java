@@ -0,0 +1,31 @@
+package csci.ooad.polymorphia.perf;
+
+import csci.ooad.polymorphia.MonteCarloSimulation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoadProfileTest {
+
+    @Test
+    void testParseArguments() {
+        Map<String, String> overrides = LoadProfile.parse(new String[]{"games=10", "rows=3"});
+
+        assertEquals(Map.of("games", "10", "rows", "3"), overrides);
+        assertThrows(IllegalArgumentException.class, () -> LoadProfile.parse(new String[]{"games"}));
+    }
+
+    @Test
+    void testUnknownSettingIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LoadProfile(Map.of("gamez", "10")));
+    }
+
+    @Test
+    void testSmallProfileRuns() {
+        MonteCarloSimulation.Result result = new LoadProfile(Map.of("games", "8", "threads", "2")).run();
+
+        assertEquals(8, result.gamesPlayed());
+    }
+}